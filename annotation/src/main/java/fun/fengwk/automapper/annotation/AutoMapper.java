@@ -59,4 +59,12 @@ public @interface AutoMapper {
      */
     String tableNamePrefix() default "";
 
+    /**
+     * 返回值为单个对象的find方法将追加的limit行数，默认为2，使查询在找到第二行后即停止，
+     * 同时mybatis仍能在匹配多行时抛出TooManyResultsException；设置为1时直接返回第一行，小于1时不追加limit。
+     *
+     * @return
+     */
+    int singleResultLimit() default 2;
+
 }
@@ -0,0 +1,26 @@
+package fun.fengwk.automapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 分批执行，该注解用于入参为可迭代集合的批量方法（例如insertAll），一旦使用该注解，将在Mapper所在包下生成名为{Mapper}Batches的助手类，
+ * 其中的同名方法会将入参按指定的行数拆分为多个批次依次调用Mapper方法，并累加各批次的影响行数。
+ * 该注解也可以用于入参拥有limit的delete方法，此时助手类中的同名方法以批次大小作为limit循环执行删除，直至某一批次不足limit行。
+ *
+ * @author fengwk
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.METHOD })
+public @interface BatchSize {
+
+    /**
+     * 每个批次的最大行数。
+     *
+     * @return
+     */
+    int value();
+
+}
@@ -13,6 +13,11 @@ public enum DBType {
     /**
      * 生成的语句部分仅支持MySQL语法。
      */
-    MYSQL;
+    MYSQL,
+
+    /**
+     * 在MYSQL的基础上，生成的语句部分仅支持MySQL 8.0.19及以上版本的语法（upsert使用的插入行别名自8.0.19起可用）。
+     */
+    MYSQL8;
 
 }
@@ -0,0 +1,25 @@
+package fun.fengwk.automapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 延迟关联，该注解用于page方法，一旦使用该注解，分页将先在子查询中仅通过键字段完成过滤、排序与offset跳过，
+ * 再通过键字段关联回表查询完整的记录，使深分页时的offset扫描尽可能停留在覆盖索引中。
+ *
+ * @author fengwk
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.METHOD })
+public @interface DeferredJoin {
+
+    /**
+     * 指定用于关联的Bean字段名称，通常是主键。
+     *
+     * @return
+     */
+    String value() default "id";
+
+}
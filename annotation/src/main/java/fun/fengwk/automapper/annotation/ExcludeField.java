@@ -8,6 +8,7 @@ import java.lang.annotation.Target;
 
 /**
  * 排除字段，该注解将作用于insert或update方法，被该注解指定的字段将在insert或update表达式生成xml时被忽略。
+ * 用于find或page方法时不查询被指定的字段。
  *
  * @author fengwk
  */
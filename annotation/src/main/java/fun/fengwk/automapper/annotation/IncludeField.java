@@ -8,6 +8,7 @@ import java.lang.annotation.Target;
 
 /**
  * 引入字段，该注解用于insert或update方法，一旦使用该注解，那么只有被指定的字段在insert或update表达式生成xml时被使用。
+ * 用于find或page方法时只查询被指定的字段。
  *
  * @author fengwk
  */
@@ -0,0 +1,17 @@
+package fun.fengwk.automapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 该标识表示其为延迟加载的字段，find与page语句默认不会查询该字段，通常用于较大的text或blob字段。
+ * 需要时可以使用find{Field}By...方法单独查询，或在方法上使用{@link IncludeField}明确引入。
+ *
+ * @author fengwk
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface LazyField {
+}
@@ -0,0 +1,53 @@
+package fun.fengwk.automapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 语句选项，该注解用于设置生成语句的fetchSize、timeout、useCache、flushCache与statementType属性，
+ * 只有明确设置的选项才会生成到语句上，未设置的选项将使用全局配置，没有全局配置时使用mybatis的默认行为。
+ *
+ * @author fengwk
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.METHOD })
+public @interface StatementOptions {
+
+    /**
+     * 驱动每次拉取的行数，仅作用于select语句。
+     *
+     * @return
+     */
+    int fetchSize() default 0;
+
+    /**
+     * 驱动等待数据库返回结果的秒数，超时后将抛出异常并释放连接。
+     *
+     * @return
+     */
+    int timeout() default 0;
+
+    /**
+     * 是否将结果缓存到二级缓存中，仅作用于select语句。
+     *
+     * @return
+     */
+    boolean useCache() default true;
+
+    /**
+     * 语句执行时是否清空本地缓存与二级缓存。
+     *
+     * @return
+     */
+    boolean flushCache() default false;
+
+    /**
+     * 语句类型。
+     *
+     * @return
+     */
+    StatementType statementType() default StatementType.PREPARED;
+
+}
@@ -0,0 +1,25 @@
+package fun.fengwk.automapper.annotation;
+
+/**
+ * 语句类型，与mybatis的statementType一一对应。
+ *
+ * @author fengwk
+ */
+public enum StatementType {
+
+    /**
+     * 使用Statement执行。
+     */
+    STATEMENT,
+
+    /**
+     * 使用PreparedStatement执行，这是mybatis的默认值。
+     */
+    PREPARED,
+
+    /**
+     * 使用CallableStatement执行。
+     */
+    CALLABLE;
+
+}
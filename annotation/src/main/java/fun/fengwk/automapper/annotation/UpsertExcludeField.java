@@ -0,0 +1,43 @@
+package fun.fengwk.automapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 冲突时不更新的字段，该注解将作用于upsert方法，被该注解指定的字段仍会被插入，但不会出现在on duplicate key update的更新列表中，
+ * 例如插入时写入的创建时间在冲突时应当保持原值。
+ *
+ * @author fengwk
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.METHOD })
+@Repeatable(UpsertExcludeField.List.class)
+public @interface UpsertExcludeField {
+
+    /**
+     * 指定Bean字段名称。
+     *
+     * @return
+     */
+    String value();
+
+    /**
+     * 批量处理冲突时不更新字段注解。
+     */
+    @Retention(RetentionPolicy.CLASS)
+    @Target({ ElementType.METHOD })
+    @interface List {
+
+        /**
+         * 冲突时不更新字段注解数组。
+         *
+         * @return
+         */
+        UpsertExcludeField[] value();
+
+    }
+
+}
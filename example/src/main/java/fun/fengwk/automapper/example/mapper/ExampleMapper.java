@@ -1,11 +1,16 @@
 package fun.fengwk.automapper.example.mapper;
 
 import fun.fengwk.automapper.annotation.AutoMapper;
+import fun.fengwk.automapper.annotation.BatchSize;
+import fun.fengwk.automapper.annotation.DeferredJoin;
 import fun.fengwk.automapper.annotation.ExcludeField;
 import fun.fengwk.automapper.annotation.IncludeField;
 import fun.fengwk.automapper.annotation.Selective;
+import fun.fengwk.automapper.annotation.StatementOptions;
 import fun.fengwk.automapper.example.model.ExampleDO;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.Collection;
 import java.util.List;
@@ -29,6 +34,9 @@ public interface ExampleMapper extends BaseMapper<ExampleDO> {
 
     int replace(ExampleDO exampleDO);
 
+    int upsert(ExampleDO exampleDO);
+
+    @BatchSize(500)
     @ExcludeField.List({
             @ExcludeField("f1"),
             @ExcludeField("f2")
@@ -39,10 +47,22 @@ public interface ExampleMapper extends BaseMapper<ExampleDO> {
 
     int deleteById(long id);
 
+    @BatchSize(1000)
+    int deleteByIsDeletedOrderById(@Param("isDeleted") int isDeleted, @Param("limit") int limit);
+
     int updateById(ExampleDO exampleDO);
 
     int updateByIdSelective(ExampleDO exampleDO);
 
+    @BatchSize(500)
+    int updateAllByIdSelective(List<ExampleDO> exampleDOs);
+
+    int updateByIdDiff(@Param("old") ExampleDO old, @Param("updated") ExampleDO updated);
+
+    int updateSortByIdIn(@Param("sort") int sort, @Param("id") Collection<Long> ids);
+
+    int decrementSortByIdAndSortGreaterThanEquals(@Param("sort") int sort, @Param("id") long id);
+
     ExampleDO findById(long id);
 
     List<ExampleDO> findByName(@Selective String name);
@@ -53,8 +73,26 @@ public interface ExampleMapper extends BaseMapper<ExampleDO> {
 
     List<ExampleDO> pageByNameStartingWithAndSortGreaterThanEqualsOrderBySortDesc(@Param("name") String name, @Param("sort") int sort, @Param("limit") int limit);
 
+    List<ExampleDO> pageByIsDeletedOrderById(@Param("isDeleted") int isDeleted, @Param("after") Long after, @Param("limit") int limit);
+
+    @DeferredJoin
+    List<ExampleDO> pageByIsDeletedOrderBySortDesc(@Param("isDeleted") int isDeleted, @Param("offset") int offset, @Param("limit") int limit);
+
+    Cursor<ExampleDO> findAllOrderById();
+
+    void findByIsDeleted(int isDeleted, ResultHandler<ExampleDO> resultHandler);
+
+    List<Long> findIdByIsDeleted(int isDeleted);
+
+    String findNameById(long id);
+
     List<ExampleDO> findByIdInAndIsDeleted(@Param("id") Collection<Long> ids, int isDeleted);
 
+    @StatementOptions(timeout = 3)
     int countByIdIn(List<Long> ids);
 
+    int countByIsDeletedUpTo(@Param("isDeleted") int isDeleted, @Param("limit") int limit);
+
+    boolean existsByName(String name);
+
 }
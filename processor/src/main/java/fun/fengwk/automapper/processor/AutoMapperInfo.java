@@ -23,15 +23,18 @@ public class AutoMapperInfo {
     private final NamingStyle fieldNamingStyle;
     private final String tableName;
     private final String tableNamePrefix;
+    private final int singleResultLimit;
 
     private AutoMapperInfo(DBType dbType, String mapperSuffix, NamingStyle tableNamingStyle,
-                          NamingStyle fieldNamingStyle, String tableName, String tableNamePrefix) {
+                          NamingStyle fieldNamingStyle, String tableName, String tableNamePrefix,
+                          int singleResultLimit) {
         this.dbType = dbType;
         this.mapperSuffix = mapperSuffix;
         this.tableNamingStyle = tableNamingStyle;
         this.fieldNamingStyle = fieldNamingStyle;
         this.tableName = tableName;
         this.tableNamePrefix = tableNamePrefix;
+        this.singleResultLimit = singleResultLimit;
     }
 
     public static AutoMapperInfo parse(AutoMapper autoMapper, AnnotationMirror autoMapperMirror, GlobalConfig globalConfig) {
@@ -43,12 +46,14 @@ public class AutoMapperInfo {
         NamingStyle fieldNamingStyle = autoMapper.fieldNamingStyle();
         String tableName = autoMapper.tableName();
         String tableNamePrefix = autoMapper.tableNamePrefix();
+        int singleResultLimit = autoMapper.singleResultLimit();
 
         DBType globalDbType = globalConfig.getDBType();
         String globalMapperSuffix = globalConfig.getMapperSuffix();
         NamingStyle globalTableNamingStyle = globalConfig.getTableNamingStyle();
         NamingStyle globalFieldNamingStyle = globalConfig.getFieldNamingStyle();
         String globalTableNamePrefix = globalConfig.getTableNamePrefix();
+        Integer globalSingleResultLimit = globalConfig.getSingleResultLimit();
 
         if (globalDbType != null && !isExplicit(autoMapperMirror, "dbType")) {
             dbType = globalDbType;
@@ -65,8 +70,12 @@ public class AutoMapperInfo {
         if (globalTableNamePrefix != null && !isExplicit(autoMapperMirror, "tableNamePrefix")) {
             tableNamePrefix = globalTableNamePrefix;
         }
+        if (globalSingleResultLimit != null && !isExplicit(autoMapperMirror, "singleResultLimit")) {
+            singleResultLimit = globalSingleResultLimit;
+        }
 
-        return new AutoMapperInfo(dbType, mapperSuffix, tableNamingStyle, fieldNamingStyle, tableName, tableNamePrefix);
+        return new AutoMapperInfo(dbType, mapperSuffix, tableNamingStyle, fieldNamingStyle, tableName, tableNamePrefix,
+                singleResultLimit);
     }
 
     // 检查注解方法是否被用户明确设置了
@@ -104,4 +113,8 @@ public class AutoMapperInfo {
     public String getTableNamePrefix() {
         return tableNamePrefix;
     }
+
+    public int getSingleResultLimit() {
+        return singleResultLimit;
+    }
 }
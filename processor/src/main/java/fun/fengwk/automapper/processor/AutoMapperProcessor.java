@@ -4,6 +4,7 @@ import fun.fengwk.automapper.annotation.AutoMapper;
 import fun.fengwk.automapper.annotation.DBType;
 import fun.fengwk.automapper.annotation.NamingStyle;
 import fun.fengwk.automapper.processor.mapper.GlobalConfig;
+import fun.fengwk.automapper.processor.mapper.MapperBatchesGenerator;
 import fun.fengwk.automapper.processor.mapper.MapperMethodParser;
 import fun.fengwk.automapper.processor.naming.NamingConverter;
 import fun.fengwk.automapper.processor.naming.NamingConverterFactory;
@@ -28,6 +29,7 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,6 +55,7 @@ public class AutoMapperProcessor extends AbstractProcessor {
     private Messager messager;
 
     private MapperMethodParser mapperMethodParser;
+    private MapperBatchesGenerator mapperBatchesGenerator;
     private GlobalConfig globalConfig;
 
     @Override
@@ -134,13 +137,21 @@ public class AutoMapperProcessor extends AbstractProcessor {
         Translator translator;
         InputStream xmlInput = openResource(xmlResourceFile);
         try {
-            translator = TranslatorFactory.getInstance(dbType, new TranslateContext(namespace, tableName, fieldNamingConverter, xmlInput));
+            translator = TranslatorFactory.getInstance(dbType, new TranslateContext(namespace, tableName, fieldNamingConverter, xmlInput,
+                    autoMapperInfo.getSingleResultLimit(), getGlobalConfig().getStmtOptions()));
             translateAll(translator, methodInfoList, mapperElement);
         } finally {
             close(xmlInput);
         }
 
         writeResource(xmlResourceFile, DOMUtils.toString(translator.getDocument()));
+
+        // 生成分批执行助手类
+        MapperBatchesGenerator batchesGenerator = getMapperBatchesGenerator();
+        String batchesSource = batchesGenerator.generate(mapperElement);
+        if (batchesSource != null) {
+            writeSource(batchesGenerator.getBatchesName(mapperElement), batchesSource, mapperElement);
+        }
     }
 
     // 获取Mapper方法解析器
@@ -151,6 +162,14 @@ public class AutoMapperProcessor extends AbstractProcessor {
         return mapperMethodParser;
     }
 
+    // 获取分批执行助手类生成器
+    private MapperBatchesGenerator getMapperBatchesGenerator() {
+        if (mapperBatchesGenerator == null) {
+            mapperBatchesGenerator = new MapperBatchesGenerator(types, elements);
+        }
+        return mapperBatchesGenerator;
+    }
+
     private <A extends Annotation> AnnotationMirror findAnnotationMirror(Element element, Class<A> annotationClass) {
         List<? extends AnnotationMirror> annoMirrors = element.getAnnotationMirrors();
         for (AnnotationMirror annoMirror : annoMirrors) {
@@ -226,6 +245,18 @@ public class AutoMapperProcessor extends AbstractProcessor {
         }
     }
 
+    private void writeSource(String className, String context, TypeElement mapperElement) {
+        try {
+            JavaFileObject fileObject = filer.createSourceFile(className, mapperElement);
+            log("[AutoMapper] Batches source written to '%s'.", className);
+            try (Writer writer = fileObject.openWriter()) {
+                writer.write(context);
+            }
+        } catch (IOException e) {
+            throw new AutoMapperException(e);
+        }
+    }
+
     private void translateAll(Translator translator, List<MethodInfo> methodInfoList, TypeElement mapperElement) {
         for (MethodInfo methodInfo : methodInfoList) {
             try {
@@ -10,10 +10,13 @@ public enum Keyword {
     UPDATE("update"),
     FIND("find"),
     COUNT("count"),
+    EXISTS("exists"),
     PAGE("page"),
 
     ALL("All"),
     BY("By"),
+    FIRST("First"),
+    TOP("Top"),
     ORDER_BY("OrderBy"),
 
     AND("And"),
@@ -42,7 +45,9 @@ public enum Keyword {
     IN("In"),
     NOT_IN("NotIn"),
 
-    SELECTIVE("Selective");
+    SELECTIVE("Selective"),
+    DIFF("Diff"),
+    UP_TO("UpTo");
 
     private final String value;
 
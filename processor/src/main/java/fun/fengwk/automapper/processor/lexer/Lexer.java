@@ -22,13 +22,22 @@ public class Lexer {
     private static final String SELECTIVE = "Selective";
     private static final char EOF = 0;
     private static final String SELECTIVE_EOF = SELECTIVE + EOF;
+    private static final String DIFF = "Diff";
+    private static final String DIFF_EOF = DIFF + EOF;
+    private static final String UP_TO = "UpTo";
+    private static final String UP_TO_EOF = UP_TO + EOF;
 
     private static final Pattern PATTERN_TERM_AND = Pattern.compile("^([_0-9a-zA-Z]+?)" + Keyword.AND.getValue());
     private static final Pattern PATTERN_TERM_AND_OR = Pattern.compile("^([_0-9a-zA-Z]+?)(" + Keyword.AND.getValue() + "|" + Keyword.OR.getValue() + ")");
+    private static final Pattern PATTERN_TERM_AND_BY = Pattern.compile("^([_0-9a-zA-Z]+?)(" + Keyword.AND.getValue() + "|" + Keyword.BY.getValue() + ")");
     private static final Pattern PATTERN_TERM_ORDER_BY_AND_OR = Pattern.compile("^([_0-9a-zA-Z]+?)(" + Keyword.ORDER_BY.getValue() + "|" + Keyword.AND.getValue() + "|" + Keyword.OR.getValue() + ")");
 
+    private static final Pattern PATTERN_TOP = Pattern.compile("^" + Keyword.TOP.getValue() + "([1-9][0-9]*)(?=" + Keyword.ALL.getValue() + "|" + Keyword.BY.getValue() + ")");
+
     private static final Pattern PATTERN_TERM_EOF = Pattern.compile("^([_0-9a-zA-Z]+?)" + EOF);
     private static final Pattern PATTERN_TERM_SELECTIVE_EOF = Pattern.compile("^([_0-9a-zA-Z]+?)" + SELECTIVE_EOF);
+    private static final Pattern PATTERN_TERM_DIFF_EOF = Pattern.compile("^([_0-9a-zA-Z]+?)" + DIFF_EOF);
+    private static final Pattern PATTERN_TERM_UP_TO_EOF = Pattern.compile("^([_0-9a-zA-Z]+?)" + UP_TO_EOF);
 
     private static final Keyword[] BY_KEYWORDS = sortByValueLengthDesc(Keyword.getByOps());
     private static final Keyword[] ORDER_BY_KEYWORDS = sortByValueLengthDesc(Keyword.getOrderByOps());
@@ -39,6 +48,7 @@ public class Lexer {
     private final String[] updateDerivedValues;
     private final String[] findDerivedValues;
     private final String[] countDerivedValues;
+    private final String[] existsDerivedValues;
     private final String[] pageDerivedValues;
 
     private String expression;
@@ -46,12 +56,14 @@ public class Lexer {
     private List<Token> tokens;
 
     private Lexer(String[] insertDerivedValues, String[] deleteDerivedValues, String[] updateDerivedValues,
-                 String[] findDerivedValues, String[] countDerivedValues, String[] pageDerivedValues) {
+                 String[] findDerivedValues, String[] countDerivedValues, String[] existsDerivedValues,
+                 String[] pageDerivedValues) {
         this.insertDerivedValues = insertDerivedValues;
         this.deleteDerivedValues = deleteDerivedValues;
         this.updateDerivedValues = updateDerivedValues;
         this.findDerivedValues = findDerivedValues;
         this.countDerivedValues = countDerivedValues;
+        this.existsDerivedValues = existsDerivedValues;
         this.pageDerivedValues = pageDerivedValues;
     }
 
@@ -87,7 +99,7 @@ public class Lexer {
                     }
 
                     if (tryEatDerivedKeyword(Keyword.DELETE, deleteDerivedValues)) {
-                        state = 2;
+                        state = 12;
                         break;
                     }
 
@@ -106,14 +118,20 @@ public class Lexer {
                         break;
                     }
 
+                    if (tryEatDerivedKeyword(Keyword.EXISTS, existsDerivedValues)) {
+                        state = 2;
+                        break;
+                    }
+
                     if (tryEatDerivedKeyword(Keyword.PAGE, pageDerivedValues)) {
                         state = 4;
                         break;
                     }
 
-                    throw new LexicalException("Expressions must begin with %s|%s|%s|%s|%s|%s",
+                    throw new LexicalException("Expressions must begin with %s|%s|%s|%s|%s|%s|%s",
                             Keyword.INSERT.getValue(), Keyword.DELETE.getValue(), Keyword.UPDATE.getValue(),
-                            Keyword.FIND.getValue(), Keyword.COUNT.getValue(), Keyword.PAGE.getValue());
+                            Keyword.FIND.getValue(), Keyword.COUNT.getValue(), Keyword.EXISTS.getValue(),
+                            Keyword.PAGE.getValue());
 
                 case 1:
                     if (tryEatSelectiveEOF()) {
@@ -134,6 +152,10 @@ public class Lexer {
 
                 case 2:
                     if (tryEatKeyword(Keyword.ALL)) {
+                        if (tryEatUpToEOF()) {
+                            break;
+                        }
+
                         if (tryEatEOF()) {
                             break;
                         }
@@ -146,16 +168,32 @@ public class Lexer {
                             tokens.get(tokens.size() - 1).getValue());
 
                 case 3:
+                    // updateAllBy...
+                    if (expression.startsWith(Keyword.ALL.getValue() + Keyword.BY.getValue(), offset)) {
+                        tryEatKeyword(Keyword.ALL);
+                    }
+
                     if (tryEatKeyword(Keyword.BY)) {
                         state = 7;
                         break;
                     }
 
-                    throw new LexicalException("Expression failed to parse after %s",
-                            tokens.get(tokens.size() - 1).getValue());
+                    // update{Field}And{Field}By...
+                    state = 11;
+                    break;
 
                 case 4:
-                    if (tryEatKeyword(Keyword.ALL)) {
+                    // find[First|Top{N}]...，与Top相同，First之后只能是All或By，避免将First开头的字段误认为关键码
+                    if (!((expression.startsWith(Keyword.FIRST.getValue() + Keyword.ALL.getValue(), offset)
+                            || expression.startsWith(Keyword.FIRST.getValue() + Keyword.BY.getValue(), offset))
+                            && tryEatKeyword(Keyword.FIRST))) {
+                        tryEatTop();
+                    }
+
+                    // All之后只能是OrderBy或结束，避免将All开头的字段误认为关键码
+                    if ((expression.startsWith(Keyword.ALL.getValue() + EOF, offset)
+                            || expression.startsWith(Keyword.ALL.getValue() + Keyword.ORDER_BY.getValue(), offset))
+                            && tryEatKeyword(Keyword.ALL)) {
                         state = 8;
                         break;
                     }
@@ -165,8 +203,9 @@ public class Lexer {
                         break;
                     }
 
-                    throw new LexicalException("Expression failed to parse after %s",
-                            tokens.get(tokens.size() - 1).getValue());
+                    // find{Field}And{Field}By...
+                    state = 13;
+                    break;
 
                 case 5:
                     if (tryEatSelectiveEOF()) {
@@ -185,6 +224,10 @@ public class Lexer {
                         break;
                     }
 
+                    if (tryEatTermUpToEOF(this::parseByTerm)) {
+                        break;
+                    }
+
                     if (tryEatTermEOF(this::parseByTerm)) {
                         break;
                     }
@@ -201,6 +244,10 @@ public class Lexer {
                         break;
                     }
 
+                    if (tryEatTermDiffEOF(this::parseByTerm)) {
+                        break;
+                    }
+
                     if (tryEatTermEOF(this::parseByTerm)) {
                         break;
                     }
@@ -250,6 +297,46 @@ public class Lexer {
                     throw new LexicalException("Expression failed to parse after %s",
                             tokens.get(tokens.size() - 1).getValue());
 
+                case 11:
+                    int fieldRes = tryEatTermAndBy(this::parseFieldTerm);
+                    if (fieldRes == 1) {
+                        state = 7;
+                        break;
+                    }
+                    if (fieldRes == 2) {
+                        break;
+                    }
+
+                    throw new LexicalException("Expression failed to parse after %s",
+                            tokens.get(tokens.size() - 1).getValue());
+
+                case 13:
+                    int projectionRes = tryEatTermAndBy(this::parseFieldTerm);
+                    if (projectionRes == 1) {
+                        state = 9;
+                        break;
+                    }
+                    if (projectionRes == 2) {
+                        break;
+                    }
+
+                    throw new LexicalException("Expression failed to parse after %s",
+                            tokens.get(tokens.size() - 1).getValue());
+
+                case 12:
+                    // deleteBy...OrderBy...
+                    if (tryEatKeyword(Keyword.ALL)) {
+                        if (tryEatEOF()) {
+                            break;
+                        }
+                    } else if (tryEatKeyword(Keyword.BY)) {
+                        state = 9;
+                        break;
+                    }
+
+                    throw new LexicalException("Expression failed to parse after %s",
+                            tokens.get(tokens.size() - 1).getValue());
+
                 default:
                     throw new AssertionError();
             }
@@ -291,6 +378,21 @@ public class Lexer {
         return false;
     }
 
+    /**
+     * 尝试吃掉一个UpToEOF，成功返回true，失败返回false
+     *
+     * @return
+     */
+    private boolean tryEatUpToEOF() {
+        if (UP_TO_EOF.equals(expression.substring(offset))) {
+            tokens.add(new Token(TokenType.KEYWORD, UP_TO));
+            offset += UP_TO_EOF.length();
+            return true;
+        }
+
+        return false;
+    }
+
     /**
      * 尝试吃掉一个支持派生的关键码，成功返回true，失败返回false
      *
@@ -326,6 +428,23 @@ public class Lexer {
         return false;
     }
 
+    /**
+     * 尝试吃掉Top{N}，成功返回true，失败返回false
+     *
+     * @return
+     */
+    private boolean tryEatTop() {
+        CharSequence expression = new StringCharSequenceView(this.expression, offset);
+        Matcher m = PATTERN_TOP.matcher(expression);
+        if (m.find()) {
+            tokens.add(new Token(TokenType.KEYWORD, Keyword.TOP.getValue()));
+            tokens.add(new Token(TokenType.VARIABLE, m.group(1)));
+            offset += m.group().length();
+            return true;
+        }
+        return false;
+    }
+
     /**
      * 尝试吃掉[_0-9a-zA-Z]+?(OrderBy|And|Or)，成功匹配到OrderBy返回1，成功匹配到And|Or返回2，失败返回0
      *
@@ -344,6 +463,24 @@ public class Lexer {
         return 0;
     }
 
+    /**
+     * 尝试吃掉[_0-9a-zA-Z]+?(By|And)，成功匹配到By返回1，成功匹配到And返回2，失败返回0
+     *
+     * @param termParser
+     * @return
+     */
+    private int tryEatTermAndBy(Consumer<String> termParser) {
+        CharSequence expression = new StringCharSequenceView(this.expression, offset);
+        Matcher m = PATTERN_TERM_AND_BY.matcher(expression);
+        if (m.find()) {
+            termParser.accept(m.group(1));
+            tokens.add(new Token(TokenType.KEYWORD, m.group(2)));
+            offset += m.group().length();
+            return Keyword.BY.getValue().equals(m.group(2)) ? 1 : 2;
+        }
+        return 0;
+    }
+
     /**
      * 尝试吃掉[_0-9a-zA-Z]+?(And|Or)，成功返回true，失败返回false
      *
@@ -415,6 +552,42 @@ public class Lexer {
         return false;
     }
 
+    /**
+     * 尝试吃掉[_0-9a-zA-Z]+?DiffEOF，成功返回true，失败返回false
+     *
+     * @param termParser
+     * @return
+     */
+    private boolean tryEatTermDiffEOF(Consumer<String> termParser) {
+        CharSequence expression = new StringCharSequenceView(this.expression, offset);
+        Matcher m = PATTERN_TERM_DIFF_EOF.matcher(expression);
+        if (m.find()) {
+            termParser.accept(m.group(1));
+            tokens.add(new Token(TokenType.KEYWORD, DIFF));
+            offset += m.group().length();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 尝试吃掉[_0-9a-zA-Z]+?UpToEOF，成功返回true，失败返回false
+     *
+     * @param termParser
+     * @return
+     */
+    private boolean tryEatTermUpToEOF(Consumer<String> termParser) {
+        CharSequence expression = new StringCharSequenceView(this.expression, offset);
+        Matcher m = PATTERN_TERM_UP_TO_EOF.matcher(expression);
+        if (m.find()) {
+            termParser.accept(m.group(1));
+            tokens.add(new Token(TokenType.KEYWORD, UP_TO));
+            offset += m.group().length();
+            return true;
+        }
+        return false;
+    }
+
     /**
      * 解析By语句后的短语
      *
@@ -432,6 +605,15 @@ public class Lexer {
         tokens.add(new Token(TokenType.VARIABLE, term));
     }
 
+    /**
+     * 解析字段列表中的短语
+     *
+     * @param term
+     */
+    private void parseFieldTerm(String term) {
+        tokens.add(new Token(TokenType.VARIABLE, term));
+    }
+
     /**
      * 解析OrderBy语句后的短语
      *
@@ -456,6 +638,7 @@ public class Lexer {
         private final Set<String> updateDerivedValues = new HashSet<>();
         private final Set<String> findDerivedValues = new HashSet<>();
         private final Set<String> countDerivedValues = new HashSet<>();
+        private final Set<String> existsDerivedValues = new HashSet<>();
         private final Set<String> pageDerivedValues = new HashSet<>();
 
         public Builder() {
@@ -464,6 +647,7 @@ public class Lexer {
             deriveUpdate(Keyword.UPDATE.getValue());
             deriveFind(Keyword.FIND.getValue());
             deriveCount(Keyword.COUNT.getValue());
+            deriveExists(Keyword.EXISTS.getValue());
             derivePage(Keyword.PAGE.getValue());
         }
 
@@ -492,6 +676,11 @@ public class Lexer {
             return this;
         }
 
+        public Builder deriveExists(String derivedValue) {
+            existsDerivedValues.add(derivedValue);
+            return this;
+        }
+
         public Builder derivePage(String derivedValue) {
             pageDerivedValues.add(derivedValue);
             return this;
@@ -504,6 +693,7 @@ public class Lexer {
                     sortByLengthDesc(updateDerivedValues),
                     sortByLengthDesc(findDerivedValues),
                     sortByLengthDesc(countDerivedValues),
+                    sortByLengthDesc(existsDerivedValues),
                     sortByLengthDesc(pageDerivedValues));
         }
 
@@ -3,6 +3,10 @@ package fun.fengwk.automapper.processor.mapper;
 import fun.fengwk.automapper.annotation.AutoMapper;
 import fun.fengwk.automapper.annotation.DBType;
 import fun.fengwk.automapper.annotation.NamingStyle;
+import fun.fengwk.automapper.annotation.StatementOptions;
+import fun.fengwk.automapper.annotation.StatementType;
+import fun.fengwk.automapper.processor.AutoMapperException;
+import fun.fengwk.automapper.processor.translator.StmtOptions;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,6 +26,12 @@ public class GlobalConfig {
     private static final String TABLE_NAMING_STYLE = AutoMapper.class.getName() + ".tableNamingStyle";
     private static final String FIELD_NAMING_STYLE = AutoMapper.class.getName() + ".fieldNamingStyle";
     private static final String TABLE_NAME_PREFIX = AutoMapper.class.getName() + ".tableNamePrefix";
+    private static final String SINGLE_RESULT_LIMIT = AutoMapper.class.getName() + ".singleResultLimit";
+    private static final String FETCH_SIZE = StatementOptions.class.getName() + ".fetchSize";
+    private static final String TIMEOUT = StatementOptions.class.getName() + ".timeout";
+    private static final String USE_CACHE = StatementOptions.class.getName() + ".useCache";
+    private static final String FLUSH_CACHE = StatementOptions.class.getName() + ".flushCache";
+    private static final String STATEMENT_TYPE = StatementOptions.class.getName() + ".statementType";
 
     private final Properties config = new Properties();
 
@@ -67,4 +77,51 @@ public class GlobalConfig {
         return config.getProperty(TABLE_NAME_PREFIX);
     }
 
+    public Integer getSingleResultLimit() {
+        return getInteger(SINGLE_RESULT_LIMIT);
+    }
+
+    public StmtOptions getStmtOptions() {
+        StatementType statementType = null;
+        String statementTypeValue = config.getProperty(STATEMENT_TYPE);
+        if (statementTypeValue != null) {
+            try {
+                statementType = StatementType.valueOf(statementTypeValue.trim());
+            } catch (IllegalArgumentException e) {
+                throw newInvalidValueException(STATEMENT_TYPE, statementTypeValue);
+            }
+        }
+        return new StmtOptions(getInteger(FETCH_SIZE), getInteger(TIMEOUT), getBoolean(USE_CACHE), getBoolean(FLUSH_CACHE),
+                statementType != null ? statementType.name() : null);
+    }
+
+    private Integer getInteger(String key) {
+        String value = config.getProperty(key);
+        if (value != null) {
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                throw newInvalidValueException(key, value);
+            }
+        }
+        return null;
+    }
+
+    private Boolean getBoolean(String key) {
+        String value = config.getProperty(key);
+        if (value != null) {
+            value = value.trim();
+            if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+                return Boolean.valueOf(value);
+            }
+            throw newInvalidValueException(key, value);
+        }
+        return null;
+    }
+
+    // 无法解析的配置值需要报告给用户，避免拼写错误被静默忽略
+    private AutoMapperException newInvalidValueException(String key, String value) {
+        return new AutoMapperException("Invalid value '%s' of %s in %s", value, key, RESOURCE_PATH);
+    }
+
 }
@@ -0,0 +1,335 @@
+package fun.fengwk.automapper.processor.mapper;
+
+import fun.fengwk.automapper.annotation.BatchSize;
+import fun.fengwk.automapper.processor.AutoMapperException;
+import org.apache.ibatis.annotations.Param;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 为携带{@link BatchSize}注解的Mapper方法生成分批执行的助手类源码。
+ *
+ * @author fengwk
+ */
+public class MapperBatchesGenerator {
+
+    public static final String SUFFIX = "Batches";
+
+    private static final String INDENT = "    ";
+    private static final String UPDATE_ALL_BY = "updateAllBy";
+    private static final String DELETE = "delete";
+    private static final String LIMIT = "limit";
+    private static final String SELECTIVE = "Selective";
+
+    // 清理方法中生成的局部变量与参数名，不能与delete方法的参数名冲突
+    private static final Set<String> PURGE_RESERVED_NAMES = new HashSet<>(Arrays.asList(
+            "affected", "chunk", "pauseMillis", "e"));
+
+    private static final Set<String> CHUNK_ACCEPTABLE_TYPES = new HashSet<>(Arrays.asList(
+            Iterable.class.getName(), Collection.class.getName(), List.class.getName()));
+
+    private final Types types;
+    private final Elements elements;
+
+    public MapperBatchesGenerator(Types types, Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    /**
+     * 生成助手类源码，如果Mapper中没有需要分批执行的方法返回null。
+     *
+     * @param mapperElement
+     * @return
+     */
+    public String generate(TypeElement mapperElement) {
+        List<ExecutableElement> methodElements = collectBatchMethodElements(mapperElement);
+        if (methodElements.isEmpty()) {
+            return null;
+        }
+
+        String pkgName = elements.getPackageOf(mapperElement).getQualifiedName().toString();
+        String mapperName = mapperElement.getQualifiedName().toString();
+        String batchesName = mapperElement.getSimpleName().toString() + SUFFIX;
+
+        StringBuilder sb = new StringBuilder();
+        if (!pkgName.isEmpty()) {
+            sb.append("package ").append(pkgName).append(";\n\n");
+        }
+        sb.append("/**\n")
+                .append(" * {@link ").append(mapperName).append("}的分批执行助手，由AutoMapper生成。\n")
+                .append(" */\n")
+                .append("public class ").append(batchesName).append(" {\n\n")
+                .append(INDENT).append("private final ").append(mapperName).append(" mapper;\n\n")
+                .append(INDENT).append("public ").append(batchesName).append("(").append(mapperName).append(" mapper) {\n")
+                .append(INDENT).append(INDENT).append("this.mapper = mapper;\n")
+                .append(INDENT).append("}\n");
+
+        DeclaredType mapperType = (DeclaredType) mapperElement.asType();
+        for (ExecutableElement methodElement : methodElements) {
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(mapperType, methodElement);
+            sb.append("\n");
+            if (isPurgeMethod(methodElement)) {
+                generatePurgeMethod(sb, methodElement, methodType);
+            } else {
+                generateMethod(sb, methodElement, methodType);
+            }
+        }
+
+        sb.append("\n}\n");
+        return sb.toString();
+    }
+
+    public String getBatchesName(TypeElement mapperElement) {
+        String pkgName = elements.getPackageOf(mapperElement).getQualifiedName().toString();
+        String batchesName = mapperElement.getSimpleName().toString() + SUFFIX;
+        return pkgName.isEmpty() ? batchesName : pkgName + "." + batchesName;
+    }
+
+    private List<ExecutableElement> collectBatchMethodElements(TypeElement mapperElement) {
+        List<ExecutableElement> methodElements = new ArrayList<>();
+        for (Element memberElement : elements.getAllMembers(mapperElement)) {
+            if (memberElement.getKind() == ElementKind.METHOD
+                    && memberElement.getModifiers().contains(Modifier.ABSTRACT)
+                    && memberElement.getAnnotation(BatchSize.class) != null) {
+                methodElements.add((ExecutableElement) memberElement);
+            }
+        }
+        return methodElements;
+    }
+
+    private void generateMethod(StringBuilder sb, ExecutableElement methodElement, ExecutableType methodType) {
+        String methodName = methodElement.getSimpleName().toString();
+        int batchSize = getBatchSize(methodElement);
+
+        // 分批方法应当只有一个可迭代集合参数
+        List<? extends TypeMirror> paramTypes = methodType.getParameterTypes();
+        if (paramTypes.size() != 1 || !isChunkAcceptable(paramTypes.get(0))) {
+            throw new AutoMapperException("%s should have only one Iterable or Collection or List param", methodName);
+        }
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) paramTypes.get(0)).getTypeArguments();
+        if (typeArguments.size() != 1) {
+            throw new AutoMapperException("%s's param should declare the element type", methodName);
+        }
+        TypeMirror itemTypeMirror = typeArguments.get(0);
+        if (itemTypeMirror.getKind() == TypeKind.WILDCARD) {
+            itemTypeMirror = ((WildcardType) itemTypeMirror).getExtendsBound();
+            if (itemTypeMirror == null) {
+                throw new AutoMapperException("%s's param should declare the element type", methodName);
+            }
+        }
+        String itemType = itemTypeMirror.toString();
+
+        // 影响行数的累加类型
+        TypeMirror returnType = methodType.getReturnType();
+        String accumulatorType = getAccumulatorType(returnType);
+        if (accumulatorType == null && returnType.getKind() != TypeKind.VOID) {
+            throw new AutoMapperException("%s should have int or long or Integer or Long or void return", methodName);
+        }
+
+        String indent2 = INDENT + INDENT;
+        String indent3 = indent2 + INDENT;
+        String indent4 = indent3 + INDENT;
+        String call = "mapper." + methodName + "(chunk);\n";
+        String accumulate = accumulatorType == null ? call : "affected += " + call;
+        String keyGetter = findUpdateAllKeyGetter(methodName, itemTypeMirror);
+
+        sb.append(INDENT).append("public ").append(returnType.toString()).append(" ").append(methodName)
+                .append("(java.lang.Iterable<").append(itemType).append("> records) {\n");
+        if (accumulatorType != null) {
+            sb.append(indent2).append(accumulatorType).append(" affected = 0;\n");
+        }
+        String iterated = "records";
+        if (keyGetter != null) {
+            // 按键排序使并发的批量更新以相同的顺序加锁，避免死锁
+            iterated = "sorted";
+            sb.append(indent2).append("java.util.List<").append(itemType).append("> sorted = new java.util.ArrayList<>();\n")
+                    .append(indent2).append("for (").append(itemType).append(" record : records) {\n")
+                    .append(indent3).append("sorted.add(record);\n")
+                    .append(indent2).append("}\n")
+                    .append(indent2).append("sorted.sort(java.util.Comparator.comparing(").append(itemType).append("::").append(keyGetter)
+                    .append(", java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())));\n");
+        }
+        sb.append(indent2).append("java.util.List<").append(itemType).append("> chunk = new java.util.ArrayList<>(").append(batchSize).append(");\n")
+                .append(indent2).append("for (").append(itemType).append(" record : ").append(iterated).append(") {\n")
+                .append(indent3).append("chunk.add(record);\n")
+                .append(indent3).append("if (chunk.size() >= ").append(batchSize).append(") {\n")
+                .append(indent4).append(accumulate)
+                .append(indent4).append("chunk = new java.util.ArrayList<>(").append(batchSize).append(");\n")
+                .append(indent3).append("}\n")
+                .append(indent2).append("}\n")
+                .append(indent2).append("if (!chunk.isEmpty()) {\n")
+                .append(indent3).append(accumulate)
+                .append(indent2).append("}\n");
+        if (accumulatorType != null) {
+            sb.append(indent2).append("return affected;\n");
+        }
+        sb.append(INDENT).append("}\n");
+    }
+
+    // 获取updateAllBy{Key}方法中键字段的getter，键字段不可比较或不是此类方法时返回null
+    private String findUpdateAllKeyGetter(String methodName, TypeMirror itemTypeMirror) {
+        if (!methodName.startsWith(UPDATE_ALL_BY) || itemTypeMirror.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        String key = methodName.substring(UPDATE_ALL_BY.length());
+        if (key.endsWith(SELECTIVE)) {
+            key = key.substring(0, key.length() - SELECTIVE.length());
+        }
+        if (key.isEmpty()) {
+            return null;
+        }
+
+        TypeMirror comparableType = types.erasure(elements.getTypeElement(Comparable.class.getName()).asType());
+        TypeElement itemElement = (TypeElement) types.asElement(itemTypeMirror);
+        for (Element memberElement : elements.getAllMembers(itemElement)) {
+            if (memberElement.getKind() != ElementKind.METHOD
+                    || !memberElement.getModifiers().contains(Modifier.PUBLIC)
+                    || !((ExecutableElement) memberElement).getParameters().isEmpty()) {
+                continue;
+            }
+            String name = memberElement.getSimpleName().toString();
+            if (!name.equals("get" + key) && !name.equals("is" + key)) {
+                continue;
+            }
+            TypeMirror keyType = ((ExecutableType) types.asMemberOf((DeclaredType) itemTypeMirror, memberElement)).getReturnType();
+            if (keyType.getKind().isPrimitive() || types.isAssignable(types.erasure(keyType), comparableType)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private int getBatchSize(ExecutableElement methodElement) {
+        int batchSize = methodElement.getAnnotation(BatchSize.class).value();
+        if (batchSize <= 0) {
+            throw new AutoMapperException("%s's batch size should be greater than 0", methodElement.getSimpleName());
+        }
+        return batchSize;
+    }
+
+    // 携带limit参数的delete方法每次只删除有限的行数，需要循环执行直至删除完毕
+    private boolean isPurgeMethod(ExecutableElement methodElement) {
+        if (!methodElement.getSimpleName().toString().startsWith(DELETE)) {
+            return false;
+        }
+        for (VariableElement parameter : methodElement.getParameters()) {
+            if (LIMIT.equals(getParamName(parameter))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getParamName(VariableElement parameter) {
+        Param paramAnnotation = parameter.getAnnotation(Param.class);
+        return paramAnnotation != null ? paramAnnotation.value() : parameter.getSimpleName().toString();
+    }
+
+    private void generatePurgeMethod(StringBuilder sb, ExecutableElement methodElement, ExecutableType methodType) {
+        String methodName = methodElement.getSimpleName().toString();
+        int batchSize = getBatchSize(methodElement);
+        TypeMirror returnType = methodType.getReturnType();
+        if (getAccumulatorType(returnType) == null) {
+            throw new AutoMapperException("%s should have int or long or Integer or Long return", methodName);
+        }
+
+        List<? extends VariableElement> parameters = methodElement.getParameters();
+        List<? extends TypeMirror> paramTypes = methodType.getParameterTypes();
+        List<String> declarations = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        String limitArgument = null;
+        for (int i = 0; i < parameters.size(); i++) {
+            // limit由批次大小决定，不再暴露为助手方法的参数
+            if (LIMIT.equals(getParamName(parameters.get(i)))) {
+                limitArgument = isLong(paramTypes.get(i)) ? batchSize + "L" : String.valueOf(batchSize);
+                arguments.add(limitArgument);
+                continue;
+            }
+            String argument = parameters.get(i).getSimpleName().toString();
+            if (PURGE_RESERVED_NAMES.contains(argument)) {
+                throw new AutoMapperException("%s's param name %s is reserved by the batches helper", methodName, argument);
+            }
+            declarations.add(paramTypes.get(i).toString() + " " + argument);
+            arguments.add(argument);
+        }
+        declarations.add("long pauseMillis");
+
+        String indent2 = INDENT + INDENT;
+        String indent3 = indent2 + INDENT;
+        String indent4 = indent3 + INDENT;
+        String indent5 = indent4 + INDENT;
+
+        // 循环删除直至某一批不足limit行，每批之间可以暂停以减轻对复制的影响
+        sb.append(INDENT).append("public long ").append(methodName)
+                .append("(").append(String.join(", ", declarations)).append(") {\n")
+                .append(indent2).append("long affected = 0;\n")
+                .append(indent2).append("for (;;) {\n")
+                .append(indent3).append("long chunk = mapper.").append(methodName).append("(").append(String.join(", ", arguments)).append(");\n")
+                .append(indent3).append("affected += chunk;\n")
+                .append(indent3).append("if (chunk < ").append(limitArgument).append(") {\n")
+                .append(indent4).append("return affected;\n")
+                .append(indent3).append("}\n")
+                .append(indent3).append("if (pauseMillis > 0) {\n")
+                .append(indent4).append("try {\n")
+                .append(indent5).append("java.lang.Thread.sleep(pauseMillis);\n")
+                .append(indent4).append("} catch (java.lang.InterruptedException e) {\n")
+                .append(indent5).append("java.lang.Thread.currentThread().interrupt();\n")
+                .append(indent5).append("return affected;\n")
+                .append(indent4).append("}\n")
+                .append(indent3).append("}\n")
+                .append(indent2).append("}\n")
+                .append(INDENT).append("}\n");
+    }
+
+    private boolean isChunkAcceptable(TypeMirror typeMirror) {
+        if (typeMirror.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) types.asElement(typeMirror);
+        return CHUNK_ACCEPTABLE_TYPES.contains(typeElement.getQualifiedName().toString());
+    }
+
+    private boolean isLong(TypeMirror typeMirror) {
+        return typeMirror.getKind() == TypeKind.LONG || (typeMirror.getKind() == TypeKind.DECLARED
+                && Long.class.getName().equals(((TypeElement) types.asElement(typeMirror)).getQualifiedName().toString()));
+    }
+
+    private String getAccumulatorType(TypeMirror typeMirror) {
+        if (typeMirror.getKind() == TypeKind.INT) {
+            return "int";
+        }
+        if (typeMirror.getKind() == TypeKind.LONG) {
+            return "long";
+        }
+        if (typeMirror.getKind() == TypeKind.DECLARED) {
+            String name = ((TypeElement) types.asElement(typeMirror)).getQualifiedName().toString();
+            if (Integer.class.getName().equals(name)) {
+                return "int";
+            }
+            if (Long.class.getName().equals(name)) {
+                return "long";
+            }
+        }
+        return null;
+    }
+
+}
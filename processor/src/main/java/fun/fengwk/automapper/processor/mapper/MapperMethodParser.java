@@ -1,21 +1,31 @@
 package fun.fengwk.automapper.processor.mapper;
 
+import fun.fengwk.automapper.annotation.DeferredJoin;
 import fun.fengwk.automapper.annotation.ExcludeField;
 import fun.fengwk.automapper.annotation.FieldName;
 import fun.fengwk.automapper.annotation.IncludeField;
+import fun.fengwk.automapper.annotation.LazyField;
 import fun.fengwk.automapper.annotation.Selective;
+import fun.fengwk.automapper.annotation.StatementOptions;
+import fun.fengwk.automapper.annotation.UpsertExcludeField;
 import fun.fengwk.automapper.annotation.UseGeneratedKeys;
+import fun.fengwk.automapper.annotation.Version;
 import fun.fengwk.automapper.processor.naming.NamingConverter;
 import fun.fengwk.automapper.processor.translator.BeanField;
 import fun.fengwk.automapper.processor.translator.MethodInfo;
+import fun.fengwk.automapper.processor.translator.PageWrapper;
 import fun.fengwk.automapper.processor.translator.Param;
 import fun.fengwk.automapper.processor.translator.Return;
+import fun.fengwk.automapper.processor.translator.StmtOptions;
+import fun.fengwk.automapper.processor.translator.TranslateException;
 import fun.fengwk.automapper.processor.util.StringUtils;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -24,6 +34,7 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import javax.lang.model.util.Elements;
@@ -31,6 +42,7 @@ import javax.lang.model.util.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -50,6 +62,20 @@ public class MapperMethodParser {
     private static final Pattern PATTERN_GETTER = Pattern.compile("^get(.+)$");
     private static final Pattern PATTERN_SETTER = Pattern.compile("^set(.+)$");
 
+    // 流式字段类型与mybatis内置typeHandler的映射，使大字段可以由驱动按流读取而无需整体加载为byte[]或String
+    private static final Map<String, String> STREAM_TYPE_HANDLERS = new HashMap<>();
+
+    static {
+        STREAM_TYPE_HANDLERS.put("java.io.InputStream", "org.apache.ibatis.type.BlobInputStreamTypeHandler");
+        STREAM_TYPE_HANDLERS.put("java.io.Reader", "org.apache.ibatis.type.ClobReaderTypeHandler");
+    }
+
+    private static final String PAGE_WRAPPER_TOTAL_NAME = "total";
+    private static final List<String> PAGE_WRAPPER_ITEMS_NAMES = Arrays.asList("items", "records", "list");
+
+    private static final String CURSOR = "org.apache.ibatis.cursor.Cursor";
+    private static final String RESULT_HANDLER = "org.apache.ibatis.session.ResultHandler";
+
     private static final List<Predicate<ExecutableElement>> METHOD_FILTERS = Arrays.asList(
             methodElement -> !methodElement.getModifiers().contains(Modifier.NATIVE),
             methodElement -> !methodElement.getModifiers().contains(Modifier.STATIC),
@@ -121,11 +147,24 @@ public class MapperMethodParser {
         String methodName = methodElement.getSimpleName().toString();
         Set<String> includeFieldNames = getIncludeFieldNames(methodElement);
         Set<String> excludeFieldNames = getExcludeFieldNames(methodElement);
+        Set<String> upsertExcludeFieldNames = getUpsertExcludeFieldNames(methodElement);
 //        List<Anno> annos = parseAnnotations(methodElement);
         List<Param> params = new ArrayList<>();
+        TypeDescriptor resultHandlerDesc = null;
         List<? extends VariableElement> methodParameters = methodElement.getParameters();
         if (methodParameters != null) {
             for (VariableElement methodParameter : methodParameters) {
+                // ResultHandler由mybatis直接传递给执行器，其泛型参数即为逐行处理的结果类型
+                if (isResultHandler(methodParameter.asType())) {
+                    List<? extends TypeMirror> typeArguments = ((DeclaredType) methodParameter.asType()).getTypeArguments();
+                    resultHandlerDesc = new TypeDescriptor();
+                    if (typeArguments.isEmpty()
+                            || !resultHandlerDesc.init(mapperElement, typeArguments.get(0), fieldNamingConverter, 1)) {
+                        return null;
+                    }
+                    continue;
+                }
+
                 TypeDescriptor desc = new TypeDescriptor();
                 if (desc.init(mapperElement, methodParameter.asType(), fieldNamingConverter, 0)) {
                     String name = methodParameter.getSimpleName().toString();
@@ -139,7 +178,7 @@ public class MapperMethodParser {
                             : fieldNamingConverter.convert(StringUtils.upperCamelToLowerCamel(name));
 
                     params.add(new Param(desc.type, name, fieldName, desc.isIterable, desc.isJavaBean,
-                            getAndFilterBeanFields(desc, includeFieldNames, excludeFieldNames),
+                            markUpsertExcluded(getAndFilterBeanFields(desc, includeFieldNames, excludeFieldNames), upsertExcludeFieldNames),
                             methodParameter.getAnnotation(Selective.class) != null));
                 }
             }
@@ -147,15 +186,50 @@ public class MapperMethodParser {
 
         TypeDescriptor desc = new TypeDescriptor();
         Return ret = null;
-        if (desc.init(mapperElement, methodElement.getReturnType(), fieldNamingConverter, 0)) {
-            ret = new Return(desc.type, desc.isJavaBean, desc.beanFields);
+        if (resultHandlerDesc != null) {
+            // 使用ResultHandler时mybatis要求方法没有返回值
+            if (methodElement.getReturnType().getKind() == TypeKind.VOID) {
+                ret = new Return(resultHandlerDesc.type, true, resultHandlerDesc.isJavaBean,
+                        getAndFilterBeanFields(resultHandlerDesc, includeFieldNames, excludeFieldNames), null, true);
+            }
+        } else if (desc.init(mapperElement, methodElement.getReturnType(), fieldNamingConverter, 0)) {
+            // 引入、排除字段同样作用于返回值，使find、page语句只查询需要的字段
+            ret = new Return(desc.type, desc.isIterable, desc.isJavaBean,
+                    getAndFilterBeanFields(desc, includeFieldNames, excludeFieldNames), desc.pageWrapper, desc.isCursor);
         }
 
         if (ret == null) {// 说明ret不符合规范
             return null;
         }
 
-        return new MethodInfo(methodName, params, ret);
+        DeferredJoin deferredJoin = methodElement.getAnnotation(DeferredJoin.class);
+
+        return new MethodInfo(methodName, params, ret, deferredJoin != null ? deferredJoin.value() : null,
+                getStmtOptions(methodElement));
+    }
+
+    // 只有明确设置的选项才会生效，其余选项交由全局配置决定
+    private StmtOptions getStmtOptions(ExecutableElement methodElement) {
+        StatementOptions statementOptions = methodElement.getAnnotation(StatementOptions.class);
+        if (statementOptions == null) {
+            return null;
+        }
+
+        Set<String> explicitNames = new HashSet<>();
+        for (AnnotationMirror annotationMirror : methodElement.getAnnotationMirrors()) {
+            if (StatementOptions.class.getName().equals(annotationMirror.getAnnotationType().toString())) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : annotationMirror.getElementValues().entrySet()) {
+                    explicitNames.add(e.getKey().getSimpleName().toString());
+                }
+            }
+        }
+
+        return new StmtOptions(
+                explicitNames.contains("fetchSize") ? statementOptions.fetchSize() : null,
+                explicitNames.contains("timeout") ? statementOptions.timeout() : null,
+                explicitNames.contains("useCache") ? statementOptions.useCache() : null,
+                explicitNames.contains("flushCache") ? statementOptions.flushCache() : null,
+                explicitNames.contains("statementType") ? statementOptions.statementType().name() : null);
     }
 
     private Set<String> getIncludeFieldNames(ExecutableElement methodElement) {
@@ -206,6 +280,30 @@ public class MapperMethodParser {
         return excludeFieldNames;
     }
 
+    private Set<String> getUpsertExcludeFieldNames(ExecutableElement methodElement) {
+        UpsertExcludeField upsertExcludeField = methodElement.getAnnotation(UpsertExcludeField.class);
+        UpsertExcludeField.List upsertExcludeFieldList = methodElement.getAnnotation(UpsertExcludeField.List.class);
+        if (upsertExcludeField == null && upsertExcludeFieldList == null) {
+            return null;
+        }
+
+        Set<String> upsertExcludeFieldNames = new HashSet<>();
+        if (upsertExcludeField != null && upsertExcludeField.value() != null) {
+            upsertExcludeFieldNames.add(upsertExcludeField.value());
+        }
+        if (upsertExcludeFieldList != null) {
+            UpsertExcludeField[] upsertExcludeFieldInListArray = upsertExcludeFieldList.value();
+            if (upsertExcludeFieldInListArray != null) {
+                for (UpsertExcludeField upsertExcludeFieldInList : upsertExcludeFieldInListArray) {
+                    if (upsertExcludeFieldInList != null && upsertExcludeFieldInList.value() != null) {
+                        upsertExcludeFieldNames.add(upsertExcludeFieldInList.value());
+                    }
+                }
+            }
+        }
+        return upsertExcludeFieldNames;
+    }
+
 //    private List<Anno> parseAnnotations(ExecutableElement methodElement) {
 //        List<Anno> annos = new ArrayList<>();
 //        List<? extends AnnotationMirror> annotationMirrors = methodElement.getAnnotationMirrors();
@@ -234,17 +332,46 @@ public class MapperMethodParser {
                     continue;
                 }
             }
+            // 明确引入的延迟加载字段需要被查询
+            if (includeFieldNames != null && bf.isLazy()) {
+                bf = new BeanField(bf.getName(), bf.getFieldName(), bf.isUseGeneratedKeys(), bf.isSelective(), bf.isVersion(),
+                        false, bf.getTypeHandler());
+            }
             result.add(bf);
         }
         return result;
     }
 
+    // 冲突时不更新的字段仍需插入，因此只做标记而不从字段列表中移除
+    private List<BeanField> markUpsertExcluded(List<BeanField> beanFields, Set<String> upsertExcludeFieldNames) {
+        if (beanFields == null || upsertExcludeFieldNames == null) {
+            return beanFields;
+        }
+
+        List<BeanField> result = new ArrayList<>();
+        for (BeanField bf : beanFields) {
+            if (upsertExcludeFieldNames.contains(bf.getName())) {
+                bf = new BeanField(bf.getName(), bf.getFieldName(), bf.isUseGeneratedKeys(), bf.isSelective(), bf.isVersion(),
+                        bf.isLazy(), bf.getTypeHandler(), true);
+            }
+            result.add(bf);
+        }
+        return result;
+    }
+
+    private boolean isResultHandler(TypeMirror typeMirror) {
+        return typeMirror.getKind() == TypeKind.DECLARED
+                && RESULT_HANDLER.equals(((TypeElement) types.asElement(typeMirror)).getQualifiedName().toString());
+    }
+
     class TypeDescriptor {
 
         String type;
         boolean isIterable;
+        boolean isCursor;
         boolean isJavaBean;
         List<BeanField> beanFields;
+        PageWrapper pageWrapper;
 
         // 初始化，成功返回true
         public boolean init(TypeElement mapperElement, TypeMirror typeMirror, NamingConverter fieldNamingConverter, int depth) {
@@ -270,6 +397,8 @@ public class MapperMethodParser {
                 case DECLARED:
                     if (isIterable(typeMirror)) {
                         isIterable = true;
+                        // Cursor同样是Iterable，需要记录下来以便为语句开启流式读取
+                        isCursor = CURSOR.equals(((TypeElement) types.asElement(typeMirror)).getQualifiedName().toString());
                         DeclaredType declaredType = (DeclaredType) typeMirror;
                         List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
                         if (!typeArguments.isEmpty()) {
@@ -280,6 +409,8 @@ public class MapperMethodParser {
                         TypeElement typeElement = ((TypeElement) types.asElement(typeMirror));
                         type = typeElement.getQualifiedName().toString();
                         return true;
+                    } else if (initPageWrapper(mapperElement, (DeclaredType) typeMirror, fieldNamingConverter, depth)) {
+                        return true;
                     } else {
                         TypeElement typeElement = ((TypeElement) types.asElement(typeMirror));
                         type = typeElement.getQualifiedName().toString();
@@ -310,6 +441,69 @@ public class MapperMethodParser {
             }
         }
 
+        // 识别携带总数的分页包装类型，其必须有唯一的泛型参数、名为total的整型总数字段与名为items、records或list的元素集合字段，成功返回true
+        private boolean initPageWrapper(TypeElement mapperElement, DeclaredType declaredType, NamingConverter fieldNamingConverter, int depth) {
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+            if (typeArguments.size() != 1) {
+                return false;
+            }
+
+            TypeElement typeElement = (TypeElement) types.asElement(declaredType);
+            String wrapperType = typeElement.getQualifiedName().toString();
+            Element totalElement = null;
+            List<Element> itemsElements = new ArrayList<>();
+            for (Element element : elements.getAllMembers(typeElement)) {
+                if (element.getKind() == ElementKind.FIELD && !element.getModifiers().contains(Modifier.STATIC)) {
+                    String name = element.getSimpleName().toString();
+                    if (PAGE_WRAPPER_TOTAL_NAME.equals(name)) {
+                        totalElement = element;
+                    } else if (PAGE_WRAPPER_ITEMS_NAMES.contains(name)) {
+                        itemsElements.add(element);
+                    }
+                }
+            }
+            if (totalElement == null || itemsElements.isEmpty()) {
+                return false;
+            }
+
+            // 已经按约定命名了字段却无法确定其含义时直接报告错误，而不是将其当作普通的JavaBean
+            if (!isIntOrLong(totalElement.asType())) {
+                throw new TranslateException("%s's %s field should be int or long", wrapperType, PAGE_WRAPPER_TOTAL_NAME);
+            }
+            if (itemsElements.size() > 1) {
+                throw new TranslateException("%s has ambiguous items fields %s", wrapperType,
+                        itemsElements.stream().map(e -> e.getSimpleName().toString()).sorted().collect(Collectors.joining(", ")));
+            }
+            Element itemsElement = itemsElements.get(0);
+            if (itemsElement.asType().getKind() != TypeKind.DECLARED || !isIterable(itemsElement.asType())) {
+                throw new TranslateException("%s's %s field should be iterable", wrapperType, itemsElement.getSimpleName());
+            }
+            String itemsName = itemsElement.getSimpleName().toString();
+
+            TypeDescriptor itemDesc = new TypeDescriptor();
+            if (!itemDesc.init(mapperElement, typeArguments.get(0), fieldNamingConverter, depth + 1)
+                    || !itemDesc.isJavaBean || itemDesc.isIterable) {
+                return false;
+            }
+
+            type = itemDesc.type;
+            isJavaBean = true;
+            beanFields = itemDesc.beanFields;
+            pageWrapper = new PageWrapper(wrapperType, itemsName, PAGE_WRAPPER_TOTAL_NAME);
+            return true;
+        }
+
+        private boolean isIntOrLong(TypeMirror typeMirror) {
+            if (typeMirror.getKind() == TypeKind.INT || typeMirror.getKind() == TypeKind.LONG) {
+                return true;
+            }
+            if (typeMirror.getKind() == TypeKind.DECLARED) {
+                String name = ((TypeElement) types.asElement(typeMirror)).getQualifiedName().toString();
+                return Integer.class.getName().equals(name) || Long.class.getName().equals(name);
+            }
+            return false;
+        }
+
         // 收集所有父类型
         private Set<TypeMirror> collectSupertypes(TypeMirror typeMirror) {
             Set<TypeMirror> supertypes = new HashSet<>();
@@ -408,7 +602,10 @@ public class MapperMethodParser {
                                 UseGeneratedKeys useGeneratedKeysAnnotation = fieldElement.getAnnotation(UseGeneratedKeys.class);
                                 boolean useGeneratedKeys = useGeneratedKeysAnnotation != null;
                                 beanFieldMap.put(name, new BeanField(name, fieldName, useGeneratedKeys,
-                                        fieldElement.getAnnotation(Selective.class) != null));
+                                        fieldElement.getAnnotation(Selective.class) != null,
+                                        fieldElement.getAnnotation(Version.class) != null,
+                                        fieldElement.getAnnotation(LazyField.class) != null,
+                                        STREAM_TYPE_HANDLERS.get(types.erasure(fieldElement.asType()).toString())));
                             }
                         }
                     }
@@ -10,12 +10,17 @@ import fun.fengwk.automapper.processor.parser.ast.ByOp;
 import fun.fengwk.automapper.processor.parser.ast.ConnectOp;
 import fun.fengwk.automapper.processor.parser.ast.Count;
 import fun.fengwk.automapper.processor.parser.ast.Delete;
+import fun.fengwk.automapper.processor.parser.ast.Diff;
+import fun.fengwk.automapper.processor.parser.ast.Exists;
+import fun.fengwk.automapper.processor.parser.ast.Fields;
 import fun.fengwk.automapper.processor.parser.ast.Find;
 import fun.fengwk.automapper.processor.parser.ast.Insert;
 import fun.fengwk.automapper.processor.parser.ast.OrderBy;
 import fun.fengwk.automapper.processor.parser.ast.OrderByOp;
 import fun.fengwk.automapper.processor.parser.ast.Page;
 import fun.fengwk.automapper.processor.parser.ast.Selective;
+import fun.fengwk.automapper.processor.parser.ast.Top;
+import fun.fengwk.automapper.processor.parser.ast.UpTo;
 import fun.fengwk.automapper.processor.parser.ast.Update;
 import fun.fengwk.automapper.processor.parser.ast.Variable;
 
@@ -30,17 +35,20 @@ import java.util.stream.Collectors;
 /**
  * 产生式：
  * {@code
- * e0  -> insert e1 | delete e2 | update e3 | find e4 | count e2 | page e4
+ * e0  -> insert e1 | delete e12 | update e3 | find e4 | count e2 | exists e2 | page e4
  * e1  -> All e5 | e5 | ε
- * e2  -> All | By e6
- * e3  -> By e7
- * e4  -> All e8 | By e9
+ * e2  -> All (UpTo){0,1} | By e6 (UpTo){0,1}
+ * e3  -> All By e7 | By e7 | e11 By e7
+ * e4  -> e13 All e8 | e13 By e9 | e13 e11 By e9
  * e5  -> Selective | ε
  * e6  -> byTerm (byOp){0,1} (And|Or) e6 | byTerm (byOp){0,1}
- * e7  -> byTerm (byOp){0,1} (And|Or) e7 | byTerm (byOp){0,1} Selective | byTerm (byOp){0,1}
+ * e7  -> byTerm (byOp){0,1} (And|Or) e7 | byTerm (byOp){0,1} (Selective|Diff) | byTerm (byOp){0,1}
  * e8  -> OrderBy e10 | ε
  * e9  -> byTerm (byOp){0,1} (And|Or) e9 | byTerm (byOp){0,1} OrderBy e10 | byTerm (byOp){0,1}
  * e10 -> orderByTerm (orderByOp){0,1} And e10 | orderByTerm (orderByOp){0,1}
+ * e11 -> fieldTerm And e11 | fieldTerm
+ * e12 -> All | By e9
+ * e13 -> First | Top number | ε
  * }
  *
  * @author fengwk
@@ -61,7 +69,7 @@ public class Parser {
         return e0();
     }
 
-    // e0  -> insert e1 | delete e2 | update e3 | find e4 | count e2 | page e4
+    // e0  -> insert e1 | delete e12 | update e3 | find e4 | count e2 | exists e2 | page e4
     private ASTNode e0() {
         ASTNode node;
         Token token = iterator.next();
@@ -71,7 +79,7 @@ public class Parser {
             node = insert;
         } else if (token.isKeyword(Keyword.DELETE)) {
             Delete delete = new Delete(token);
-            delete.addChildren(e2());
+            delete.addChildren(e12());
             node = delete;
         } else if (token.isKeyword(Keyword.UPDATE)) {
             Update update = new Update(token);
@@ -85,6 +93,10 @@ public class Parser {
             Count count = new Count(token);
             count.addChildren(e2());
             node = count;
+        } else if (token.isKeyword(Keyword.EXISTS)) {
+            Exists exists = new Exists(token);
+            exists.addChildren(e2());
+            node = exists;
         } else if (token.isKeyword(Keyword.PAGE)) {
             Page page = new Page(token);
             page.addChildren(e4());
@@ -114,33 +126,54 @@ public class Parser {
         return nodes;
     }
 
-    // e2  -> All | By e6
+    // e2  -> All (UpTo){0,1} | By e6 (UpTo){0,1}
     private List<ASTNode> e2() {
+        List<ASTNode> nodes = new ArrayList<>();
         if (iterator.peek().isKeyword(Keyword.ALL)) {
-            return Collections.singletonList(new All(iterator.next()));
+            nodes.add(new All(iterator.next()));
         } else {
             By by = new By(iterator.nextMatch(Keyword.BY.getValue()));
-            return e6(by);
+            nodes.addAll(e6(by));
+        }
+        if (iterator.hasNext()) {
+            nodes.add(new UpTo(iterator.nextMatch(Keyword.UP_TO.getValue())));
         }
+        return nodes;
     }
 
-    // e3  -> By e7
+    // e3  -> All By e7 | By e7 | e11 By e7
     private List<ASTNode> e3() {
+        List<ASTNode> nodes = new ArrayList<>();
+        if (iterator.peek().isKeyword(Keyword.ALL)) {
+            nodes.add(new All(iterator.next()));
+        } else if (iterator.peek().getType() == TokenType.VARIABLE) {
+            nodes.add(e11());
+        }
         By by = new By(iterator.nextMatch(Keyword.BY.getValue()));
-        return e7(by);
+        nodes.addAll(e7(by));
+        return nodes;
     }
 
-    // e4  -> All e8 | By e9
+    // e4  -> e13 All e8 | e13 By e9 | e13 e11 By e9
     private List<ASTNode> e4() {
+        Top top = e13();
+        Fields fields = iterator.peek().getType() == TokenType.VARIABLE ? e11() : null;
+        List<ASTNode> nodes = new ArrayList<>();
         if (iterator.peek().isKeyword(Keyword.ALL)) {
-            List<ASTNode> nodes = new ArrayList<>();
             nodes.add(new All(iterator.next()));
             nodes.addAll(e8());
-            return nodes;
         } else {
             By by = new By(iterator.nextMatch(Keyword.BY.getValue()));
-            return e9(by);
+            nodes.addAll(e9(by));
+        }
+        // Top与Fields作为修饰节点放在最后，不影响All、By、OrderBy的位置
+        if (top != null) {
+            nodes.add(top);
         }
+        if (fields != null) {
+            nodes.add(fields);
+        }
+        return nodes;
     }
 
     // e5  -> Selective | ε
@@ -193,15 +226,19 @@ public class Parser {
         return Collections.singletonList(by);
     }
 
-    // e7  -> byTerm (byOp){0,1} (And|Or) e7 | byTerm (byOp){0,1} Selective | byTerm (byOp){0,1}
-    // e7  -> e6 | e6 Selective
+    // e7  -> byTerm (byOp){0,1} (And|Or) e7 | byTerm (byOp){0,1} (Selective|Diff) | byTerm (byOp){0,1}
+    // e7  -> e6 | e6 Selective | e6 Diff
     private List<ASTNode> e7(By by) {
         List<ASTNode> e6 = e6(by);
         if (!iterator.hasNext()) {
             return e6;
         }
         List<ASTNode> nodes = new ArrayList<>(e6);
-        nodes.add(new Selective(iterator.nextMatch(Keyword.SELECTIVE.getValue())));
+        if (iterator.peek().isKeyword(Keyword.DIFF)) {
+            nodes.add(new Diff(iterator.next()));
+        } else {
+            nodes.add(new Selective(iterator.nextMatch(Keyword.SELECTIVE.getValue())));
+        }
         return nodes;
     }
 
@@ -267,6 +304,41 @@ public class Parser {
         return Collections.singletonList(orderBy);
     }
 
+    // e11 -> fieldTerm And e11 | fieldTerm
+    private Fields e11() {
+        Fields fields = new Fields();
+        for (;;) {
+            fields.addChild(new Variable(iterator.nextMatch(TokenType.VARIABLE)));
+            if (!iterator.peek().isKeyword(Keyword.AND)) {
+                break;
+            }
+            iterator.next();
+        }
+        return fields;
+    }
+
+    // e12 -> All | By e9
+    private List<ASTNode> e12() {
+        if (iterator.peek().isKeyword(Keyword.ALL)) {
+            return Collections.singletonList(new All(iterator.next()));
+        } else {
+            By by = new By(iterator.nextMatch(Keyword.BY.getValue()));
+            return e9(by);
+        }
+    }
+
+    // e13 -> First | Top number | ε
+    private Top e13() {
+        if (iterator.peek().isKeyword(Keyword.FIRST)) {
+            return new Top(iterator.next());
+        } else if (iterator.peek().isKeyword(Keyword.TOP)) {
+            Top top = new Top(iterator.next());
+            top.addChild(new Variable(iterator.nextMatch(TokenType.VARIABLE)));
+            return top;
+        }
+        return null;
+    }
+
     private void connect(ConnectOp connectOp, LinkedList<ASTNode> output) {
         ASTNode n2 = output.pop();
         ASTNode n1 = output.pop();
@@ -15,6 +15,8 @@ public interface ASTVisitor {
 
     default void visit(Count count) {}
 
+    default void visit(Exists exists) {}
+
     default void visit(Page page) {}
 
     default void visit(By by) {}
@@ -33,4 +35,12 @@ public interface ASTVisitor {
 
     default void visit(Selective selective) {}
 
+    default void visit(Diff diff) {}
+
+    default void visit(UpTo upTo) {}
+
+    default void visit(Top top) {}
+
+    default void visit(Fields fields) {}
+
 }
@@ -0,0 +1,21 @@
+package fun.fengwk.automapper.processor.parser.ast;
+
+import fun.fengwk.automapper.processor.lexer.Token;
+
+/**
+ * 仅修改新旧两个对象间发生变化的字段。
+ *
+ * @author fengwk
+ */
+public class Diff extends ASTNode {
+
+    public Diff(Token lexeme) {
+        super(lexeme);
+    }
+
+    @Override
+    protected void accept(ASTVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
@@ -0,0 +1,19 @@
+package fun.fengwk.automapper.processor.parser.ast;
+
+import fun.fengwk.automapper.processor.lexer.Token;
+
+/**
+ * @author fengwk
+ */
+public class Exists extends ASTNode {
+
+    public Exists(Token lexeme) {
+        super(lexeme);
+    }
+
+    @Override
+    protected void accept(ASTVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
@@ -0,0 +1,22 @@
+package fun.fengwk.automapper.processor.parser.ast;
+
+import java.util.stream.Collectors;
+
+/**
+ * 字段列表，子节点均为{@link Variable}。
+ *
+ * @author fengwk
+ */
+public class Fields extends ASTNode {
+
+    @Override
+    protected void accept(ASTVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public String toString() {
+        return children.stream().map(ASTNode::toString).collect(Collectors.joining("And"));
+    }
+
+}
@@ -0,0 +1,21 @@
+package fun.fengwk.automapper.processor.parser.ast;
+
+import fun.fengwk.automapper.processor.lexer.Token;
+
+/**
+ * 只查询前N行，First表示第一行，Top{N}表示前N行。
+ *
+ * @author fengwk
+ */
+public class Top extends ASTNode {
+
+    public Top(Token lexeme) {
+        super(lexeme);
+    }
+
+    @Override
+    protected void accept(ASTVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
@@ -0,0 +1,21 @@
+package fun.fengwk.automapper.processor.parser.ast;
+
+import fun.fengwk.automapper.processor.lexer.Token;
+
+/**
+ * 计数时最多只统计limit行。
+ *
+ * @author fengwk
+ */
+public class UpTo extends ASTNode {
+
+    public UpTo(Token lexeme) {
+        super(lexeme);
+    }
+
+    @Override
+    protected void accept(ASTVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
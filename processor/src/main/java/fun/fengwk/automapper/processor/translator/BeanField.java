@@ -25,11 +25,54 @@ public class BeanField implements SelectiveNameEntry {
      */
     private final boolean isSelective;
 
+    /**
+     * 是否为乐观锁版本号。
+     */
+    private final boolean isVersion;
+
+    /**
+     * 是否为延迟加载的字段。
+     */
+    private final boolean isLazy;
+
+    /**
+     * 读取结果时使用的typeHandler，仅流式字段需要指定，其余字段为null。
+     */
+    private final String typeHandler;
+
+    /**
+     * upsert冲突时是否不更新该字段。
+     */
+    private final boolean isUpsertExcluded;
+
     public BeanField(String name, String fieldName, boolean useGeneratedKeys, boolean isSelective) {
+        this(name, fieldName, useGeneratedKeys, isSelective, false);
+    }
+
+    public BeanField(String name, String fieldName, boolean useGeneratedKeys, boolean isSelective, boolean isVersion) {
+        this(name, fieldName, useGeneratedKeys, isSelective, isVersion, false);
+    }
+
+    public BeanField(String name, String fieldName, boolean useGeneratedKeys, boolean isSelective, boolean isVersion,
+                     boolean isLazy) {
+        this(name, fieldName, useGeneratedKeys, isSelective, isVersion, isLazy, null);
+    }
+
+    public BeanField(String name, String fieldName, boolean useGeneratedKeys, boolean isSelective, boolean isVersion,
+                     boolean isLazy, String typeHandler) {
+        this(name, fieldName, useGeneratedKeys, isSelective, isVersion, isLazy, typeHandler, false);
+    }
+
+    public BeanField(String name, String fieldName, boolean useGeneratedKeys, boolean isSelective, boolean isVersion,
+                     boolean isLazy, String typeHandler, boolean isUpsertExcluded) {
         this.name = name;
         this.fieldName = fieldName;
         this.useGeneratedKeys = useGeneratedKeys;
         this.isSelective = isSelective;
+        this.isVersion = isVersion;
+        this.isLazy = isLazy;
+        this.typeHandler = typeHandler;
+        this.isUpsertExcluded = isUpsertExcluded;
     }
 
     public String getName() {
@@ -47,4 +90,20 @@ public class BeanField implements SelectiveNameEntry {
     public boolean isSelective() {
         return isSelective;
     }
+
+    public boolean isVersion() {
+        return isVersion;
+    }
+
+    public boolean isLazy() {
+        return isLazy;
+    }
+
+    public String getTypeHandler() {
+        return typeHandler;
+    }
+
+    public boolean isUpsertExcluded() {
+        return isUpsertExcluded;
+    }
 }
@@ -11,11 +11,23 @@ public class MethodInfo {
     private final String methodName;
     private final List<Param> params;
     private final Return ret;
+    private final String deferredJoinKey;
+    private final StmtOptions stmtOptions;
 
     public MethodInfo(String methodName, List<Param> params, Return ret) {
+        this(methodName, params, ret, null);
+    }
+
+    public MethodInfo(String methodName, List<Param> params, Return ret, String deferredJoinKey) {
+        this(methodName, params, ret, deferredJoinKey, null);
+    }
+
+    public MethodInfo(String methodName, List<Param> params, Return ret, String deferredJoinKey, StmtOptions stmtOptions) {
         this.methodName = methodName;
         this.params = params != null ? params : Collections.emptyList();
         this.ret = ret;
+        this.deferredJoinKey = deferredJoinKey;
+        this.stmtOptions = stmtOptions != null ? stmtOptions : StmtOptions.EMPTY;
     }
 
     public String getMethodName() {
@@ -30,4 +42,12 @@ public class MethodInfo {
         return ret;
     }
 
+    public String getDeferredJoinKey() {
+        return deferredJoinKey;
+    }
+
+    public StmtOptions getStmtOptions() {
+        return stmtOptions;
+    }
+
 }
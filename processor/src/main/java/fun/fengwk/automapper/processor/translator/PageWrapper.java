@@ -0,0 +1,42 @@
+package fun.fengwk.automapper.processor.translator;
+
+/**
+ * 携带总数的分页包装类型，例如{@code Page<T>}，包含一个元素集合字段与一个总数字段。
+ *
+ * @author fengwk
+ */
+public class PageWrapper {
+
+    /**
+     * 包装类型。
+     */
+    private final String type;
+
+    /**
+     * 元素集合字段名称。
+     */
+    private final String itemsName;
+
+    /**
+     * 总数字段名称。
+     */
+    private final String totalName;
+
+    public PageWrapper(String type, String itemsName, String totalName) {
+        this.type = type;
+        this.itemsName = itemsName;
+        this.totalName = totalName;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getItemsName() {
+        return itemsName;
+    }
+
+    public String getTotalName() {
+        return totalName;
+    }
+}
@@ -83,6 +83,13 @@ public class Param implements SelectiveNameEntry {
                 .orElse(null);
     }
 
+    public BeanField findVersionField() {
+        return beanFields.stream()
+                .filter(BeanField::isVersion)
+                .findFirst()
+                .orElse(null);
+    }
+
     public boolean isSelective() {
         return isSelective;
     }
@@ -12,6 +12,11 @@ public class Return {
      */
     private final String type;
 
+    /**
+     * 是否为可迭代的集合。
+     */
+    private final boolean isIterable;
+
     /**
      * 是否为javaBean。
      */
@@ -22,16 +27,42 @@ public class Return {
      */
     private final List<BeanField> beanFields;
 
-    public Return(String type, boolean isJavaBean, List<BeanField> beanFields) {
+    /**
+     * 如果返回值是携带总数的分页包装类型，那么该字段有值，此时type、isJavaBean与beanFields描述的是其中的元素类型，否则为null。
+     */
+    private final PageWrapper pageWrapper;
+
+    /**
+     * 是否通过Cursor返回值或ResultHandler入参逐行读取结果。
+     */
+    private final boolean isStreaming;
+
+    public Return(String type, boolean isIterable, boolean isJavaBean, List<BeanField> beanFields) {
+        this(type, isIterable, isJavaBean, beanFields, null);
+    }
+
+    public Return(String type, boolean isIterable, boolean isJavaBean, List<BeanField> beanFields, PageWrapper pageWrapper) {
+        this(type, isIterable, isJavaBean, beanFields, pageWrapper, false);
+    }
+
+    public Return(String type, boolean isIterable, boolean isJavaBean, List<BeanField> beanFields, PageWrapper pageWrapper,
+                  boolean isStreaming) {
         this.type = type;
+        this.isIterable = isIterable;
         this.isJavaBean = isJavaBean;
         this.beanFields = beanFields;
+        this.pageWrapper = pageWrapper;
+        this.isStreaming = isStreaming;
     }
 
     public String getType() {
         return type;
     }
 
+    public boolean isIterable() {
+        return isIterable;
+    }
+
     public boolean isJavaBean() {
         return isJavaBean;
     }
@@ -39,4 +70,12 @@ public class Return {
     public List<BeanField> getBeanFields() {
         return beanFields;
     }
+
+    public PageWrapper getPageWrapper() {
+        return pageWrapper;
+    }
+
+    public boolean isStreaming() {
+        return isStreaming;
+    }
 }
@@ -1,6 +1,8 @@
 package fun.fengwk.automapper.processor.translator;
 
+import fun.fengwk.automapper.processor.lexer.DerivedToken;
 import fun.fengwk.automapper.processor.lexer.Keyword;
+import fun.fengwk.automapper.processor.lexer.Lexer;
 import fun.fengwk.automapper.processor.lexer.Token;
 import fun.fengwk.automapper.processor.parser.ast.ASTNode;
 import fun.fengwk.automapper.processor.parser.ast.By;
@@ -8,23 +10,30 @@ import fun.fengwk.automapper.processor.parser.ast.ByOp;
 import fun.fengwk.automapper.processor.parser.ast.ConnectOp;
 import fun.fengwk.automapper.processor.parser.ast.Count;
 import fun.fengwk.automapper.processor.parser.ast.Delete;
+import fun.fengwk.automapper.processor.parser.ast.Exists;
+import fun.fengwk.automapper.processor.parser.ast.Fields;
 import fun.fengwk.automapper.processor.parser.ast.Find;
 import fun.fengwk.automapper.processor.parser.ast.Insert;
 import fun.fengwk.automapper.processor.parser.ast.OrderBy;
 import fun.fengwk.automapper.processor.parser.ast.OrderByOp;
 import fun.fengwk.automapper.processor.parser.ast.Page;
+import fun.fengwk.automapper.processor.parser.ast.Top;
 import fun.fengwk.automapper.processor.parser.ast.Update;
 import fun.fengwk.automapper.processor.parser.ast.Variable;
 import fun.fengwk.automapper.processor.util.StringUtils;
 import org.w3c.dom.Element;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 通用标准的的sql翻译器。
@@ -33,6 +42,14 @@ import java.util.stream.Collectors;
  */
 public class Sql92Translator extends Translator {
 
+    /* 标准语法衍生 */
+    private static final String DERIVED_INCREMENT = "increment";
+    private static final String DERIVED_DECREMENT = "decrement";
+
+    /* set列表专用入参的命名 */
+    private static final String SET_PARAM_PREFIX = "new";
+    private static final String DELTA_PARAM_SUFFIX = "Delta";
+
     protected final Map<Keyword, ByTranslator> byTranslatorMap;
     protected final Map<Keyword, BiConsumer<String, AddTextNode>> orderByTranslatorMap;
 
@@ -43,6 +60,23 @@ public class Sql92Translator extends Translator {
         this.orderByTranslatorMap = buildOrderByTranslatorMap();
     }
 
+    @Override
+    protected Lexer newLexer() {
+        return newLexerBuilder().build();
+    }
+
+    /**
+     * 构建词法分析器的构建器，子类可以在此基础上衍生更多的语法。
+     *
+     * @return
+     */
+    protected Lexer.Builder newLexerBuilder() {
+        // 原子地增减字段值
+        return new Lexer.Builder()
+                .deriveUpdate(DERIVED_INCREMENT)
+                .deriveUpdate(DERIVED_DECREMENT);
+    }
+
     protected Map<Keyword, ByTranslator> buildByTranslatorMap() {
         Map<Keyword, ByTranslator> byTranslatorMap = new HashMap<>();
         byTranslatorMap.put(Keyword.IS, (nameEntry, addElement, addTextNode, isSingleParam, indent) -> addTextNode.accept(String.format("%s=#{%s}", nameEntry.getFieldName(), nameEntry.getName())));
@@ -103,12 +137,29 @@ public class Sql92Translator extends Translator {
 
         if (existsStmtElement(methodName)) {
             throw new TranslateException("%s is exists", methodName);
-        } if (node instanceof Insert) {
+        }
+        if (ret != null && ret.getPageWrapper() != null && !(node instanceof Page)) {
+            throw new TranslateException("%s's page wrapper return is only supported by page method", methodName);
+        }
+
+        if (node instanceof Insert) {
             translateInsert((Insert) node, methodName, params);
         } else if (node instanceof Delete) {
             translateDelete((Delete) node, methodName, params);
         } else if (node instanceof Update) {
-            if (isSelective(node)) {
+            String derivedValue = getDerivedValue(node.getLexeme());
+            if (DERIVED_INCREMENT.equals(derivedValue) || DERIVED_DECREMENT.equals(derivedValue)) {
+                if (!(node.getChild(0) instanceof Fields)) {
+                    throw new TranslateException("%s should specify the fields to %s", methodName, derivedValue);
+                }
+                translateUpdateFields((Update) node, methodName, params, DERIVED_INCREMENT.equals(derivedValue) ? "+" : "-");
+            } else if (node.getChild(0) instanceof Fields) {
+                translateUpdateFields((Update) node, methodName, params, null);
+            } else if (node.getChild(0).getLexeme().isKeyword(Keyword.ALL)) {
+                translateUpdateAll((Update) node, methodName, params);
+            } else if (isDiff(node)) {
+                translateUpdateDiff((Update) node, methodName, params);
+            } else if (isSelective(node)) {
                 translateUpdateSelective((Update) node, methodName, params);
             } else {
                 translateUpdate((Update) node, methodName, params);
@@ -117,8 +168,10 @@ public class Sql92Translator extends Translator {
             translateFind((Find) node, methodName, params, ret);
         } else if (node instanceof Count) {
             translateCount((Count) node, methodName, params, ret);
+        } else if (node instanceof Exists) {
+            translateExists((Exists) node, methodName, params, ret);
         } else if (node instanceof Page) {
-            translatePage((Page) node, methodName, params, ret);
+            translatePage((Page) node, methodName, params, ret, methodInfo.getDeferredJoinKey());
         } else {
             throw new TranslateException("Can not translate");
         }
@@ -194,12 +247,12 @@ public class Sql92Translator extends Translator {
         addTextNode(foreachElement, foreachText);
 
         // for subclass
-        postProcessInsert(insert, insertElement);
+        postProcessInsert(insert, param, insertElement);
 
         insertStmtElement.append();
     }
 
-    private void translateInsertAllSelective(Insert insert, String methodName, Param param) {
+    protected void translateInsertAllSelective(Insert insert, String methodName, Param param) {
         if (!param.isIterable()) {
             throw new TranslateException("%s should have iterable param", methodName);
         }
@@ -247,7 +300,7 @@ public class Sql92Translator extends Translator {
         addTextNode(foreachElement, LF, INDENT);
 
         // for subclass
-        postProcessInsert(insert, insertElement);
+        postProcessInsert(insert, param, insertElement);
 
         insertStmtElement.append();
     }
@@ -278,7 +331,7 @@ public class Sql92Translator extends Translator {
                 ")", LF);
 
         // for subclass
-        postProcessInsert(insert, insertElement);
+        postProcessInsert(insert, param, insertElement);
 
         insertStmtElement.append();
     }
@@ -322,7 +375,7 @@ public class Sql92Translator extends Translator {
         addTextNode(insertElement, LF);
 
         // for subclass
-        postProcessInsert(insert, insertElement);
+        postProcessInsert(insert, param, insertElement);
 
         insertStmtElement.append();
     }
@@ -359,9 +412,13 @@ public class Sql92Translator extends Translator {
     }
 
     private void translateDeleteBy(Delete delete, String methodName, List<Param> params) {
+        Map<String, SelectiveNameEntry> nameMap = asNameMap(params);
+        OrderBy orderBy = delete.childrenSize() > 1 ? (OrderBy) delete.getChild(1) : null;
+        Param limit = findWriteLimit(methodName, nameMap, orderBy != null);
+
         /*
          * <delete id="deleteBy...">
-         *     delete from {table} where ...
+         *     delete from {table} where ... [order by ...] [limit #{limit}]
          * </delete>
          */
         String parameterType = params.size() == 1 ? params.get(0).getType() : null;
@@ -369,7 +426,12 @@ public class Sql92Translator extends Translator {
         Element deleteElement = deleteStmtElement.getElement();
 
         addTextNode(deleteElement, LF, INDENT, "delete from ", tableName, LF, INDENT);
-        translateBy(deleteElement, (By) delete.getChild(0), asNameMap(params));
+        translateBy(deleteElement, (By) delete.getChild(0), nameMap);
+        if (orderBy != null) {
+            addTextNode(deleteElement, LF, INDENT);
+            translateOrderBy(deleteElement, orderBy);
+        }
+        translateWriteLimit(deleteElement, limit);
         addTextNode(deleteElement, LF);
 
         // for subclass
@@ -397,16 +459,23 @@ public class Sql92Translator extends Translator {
          *     update {table} set ... where ...
          * </update>
          */
+        List<BeanField> setFields = findUpdateSetFields(update, methodName, param);
         StmtElement updateStmtElement = addUpdateElement(methodName, param.getType());
         Element updateElement = updateStmtElement.getElement();
 
+        BeanField versionField = param.findVersionField();
+        List<String> setExpressions = setFields.stream()
+                .map(f -> String.format("%s=#{%s}", f.getFieldName(), f.getName()))
+                .collect(Collectors.toList());
+        if (versionField != null) {
+            setExpressions.add(versionIncrement(versionField));
+        }
         addTextNode(updateElement, LF, INDENT, "update ", tableName, " set ",
-                param.getBeanFields().stream()
-                        .map(f -> String.format("%s=#{%s}", f.getFieldName(), f.getName()))
-                        .collect(Collectors.joining(", ")),
+                String.join(", ", setExpressions),
                 LF, INDENT
                 );
-        translateBy(updateElement, (By) update.getChild(0), asNameMap(param.getBeanFields()));
+        translateBy(updateElement, (By) update.getChild(0), asNameMap(param.getBeanFields()),
+                versionCondition(versionField, null));
         addTextNode(updateElement, LF);
 
         // for subclass
@@ -429,13 +498,13 @@ public class Sql92Translator extends Translator {
             throw new TranslateException("can not found update field in ", param);
         }
 
+        List<BeanField> bfs = findUpdateSetFields(update, methodName, param);
         StmtElement updateStmtElement = addUpdateElement(methodName, param.getType());
         Element updateElement = updateStmtElement.getElement();
 
         addTextNode(updateElement, LF, INDENT, "update ", tableName, " set ", LF, INDENT);
         Element trimElement = addElement(updateElement, "trim");
         trimElement.setAttribute("suffixOverrides", ",");
-        List<BeanField> bfs = param.getBeanFields();
         for (int i = 0; i < bfs.size(); i++) {
             BeanField bf = bfs.get(i);
             addTextNode(trimElement, LF, INDENT, INDENT);
@@ -443,10 +512,339 @@ public class Sql92Translator extends Translator {
             ifElement.setAttribute("test", String.format("%s != null", bf.getName()));
             addTextNode(ifElement, String.format("%s=#{%s},", bf.getFieldName(), bf.getName()));
         }
+        BeanField versionField = param.findVersionField();
+        if (versionField != null) {
+            addTextNode(trimElement, LF, INDENT, INDENT, versionIncrement(versionField), ",");
+        }
         addTextNode(trimElement, LF, INDENT);
         addTextNode(updateElement, LF, INDENT);
 
-        translateBy(updateElement, (By) update.getChild(0), asNameMap(param.getBeanFields()));
+        translateBy(updateElement, (By) update.getChild(0), asNameMap(param.getBeanFields()),
+                versionCondition(versionField, null));
+        addTextNode(updateElement, LF);
+
+        // for subclass
+        postProcessUpdate(update, updateElement);
+
+        updateStmtElement.append();
+    }
+
+    // 乐观锁版本号在每次修改时递增
+    private String versionIncrement(BeanField versionField) {
+        return String.format("%s=%s+1", versionField.getFieldName(), versionField.getFieldName());
+    }
+
+    // 乐观锁版本号必须与读取时一致才能修改成功，没有版本号时返回null
+    private String versionCondition(BeanField versionField, String paramName) {
+        if (versionField == null) {
+            return null;
+        }
+        String name = paramName == null ? versionField.getName() : paramName + "." + versionField.getName();
+        return String.format("%s=#{%s}", versionField.getFieldName(), name);
+    }
+
+    private String setExpression(String fieldName, SelectiveNameEntry nameEntry, String op) {
+        if (op == null) {
+            return String.format("%s=#{%s}", fieldName, nameEntry.getName());
+        }
+        return String.format("%s=%s%s#{%s}", fieldName, fieldName, op, nameEntry.getName());
+    }
+
+    private String getDerivedValue(Token lexeme) {
+        return lexeme instanceof DerivedToken ? ((DerivedToken) lexeme).getDerivedValue() : null;
+    }
+
+    // 分批删除或修改时每条语句影响的最大行数由limit参数指定，需要数据库支持
+    private Param findWriteLimit(String methodName, Map<String, SelectiveNameEntry> nameMap, boolean hasOrderBy) {
+        Param limit = (Param) nameMap.get(LIMIT);
+        if (limit == null && !hasOrderBy) {
+            return null;
+        }
+        if (!isWriteLimitSupported()) {
+            throw new TranslateException("%s's order by or limit is not supported by current dbType", methodName);
+        }
+        if (limit != null && !isIntOrLong(limit.getType())) {
+            throw new TranslateException("%s's limit should be int or long or Integer or Long", methodName);
+        }
+        return limit;
+    }
+
+    private void translateWriteLimit(Element parent, Param limit) {
+        if (limit != null) {
+            addTextNode(parent, LF, INDENT, "limit #{", limit.getName(), "}");
+        }
+    }
+
+    // 自增键以及By中以And连接的非可选等值条件字段在匹配行中的值不会改变，无需出现在set中
+    private List<BeanField> findUpdateSetFields(Update update, String methodName, Param param) {
+        Set<String> unchangedNames = collectEqualityNames(((By) update.getChild(0)).getChild(0),
+                asNameMap(param.getBeanFields()), new HashSet<>());
+        List<BeanField> setFields = param.getBeanFields().stream()
+                .filter(f -> !f.isUseGeneratedKeys() && !f.isVersion() && !unchangedNames.contains(f.getName()))
+                .collect(Collectors.toList());
+        if (setFields.isEmpty()) {
+            throw new TranslateException("%s can not found update field in %s", methodName, param.getType());
+        }
+        return setFields;
+    }
+
+    private Set<String> collectEqualityNames(ASTNode node, Map<String, SelectiveNameEntry> nameMap, Set<String> collector) {
+        if (node instanceof ConnectOp) {
+            if (node.getLexeme().isKeyword(Keyword.AND)) {
+                collectEqualityNames(node.getChild(0), nameMap, collector);
+                collectEqualityNames(node.getChild(1), nameMap, collector);
+            }
+        } else if (node instanceof ByOp) {
+            if (node.getLexeme().isKeyword(Keyword.IS) || node.getLexeme().isKeyword(Keyword.EQUALS)) {
+                SelectiveNameEntry nameEntry = findNameEntry((Variable) node.getChild(0), nameMap);
+                if (!nameEntry.isSelective()) {
+                    collector.add(nameEntry.getName());
+                }
+            }
+        } else {
+            throw new TranslateException("Translate error, %s", node);
+        }
+        return collector;
+    }
+
+    private void translateUpdateDiff(Update update, String methodName, List<Param> params) {
+        // 第一个参数为修改前的对象，第二个参数为修改后的对象
+        if (params.size() != 2 || !params.get(0).isJavaBean() || !params.get(1).isJavaBean()) {
+            throw new TranslateException("%s should have old and new java bean params", methodName);
+        }
+
+        Param oldParam = params.get(0);
+        Param newParam = params.get(1);
+        for (Param param : params) {
+            if (param.getName() == null) {
+                throw new TranslateException("%s's params should be bound by @Param", methodName);
+            }
+            // new是OGNL的关键字，无法在test表达式中作为变量名使用
+            if ("new".equals(param.getName())) {
+                throw new TranslateException("%s's param name 'new' is reserved by OGNL", methodName);
+            }
+        }
+
+        List<BeanField> setFields = findUpdateSetFields(update, methodName, oldParam);
+        List<String> diffTests = setFields.stream()
+                .map(f -> String.format("%s.%s != %s.%s", oldParam.getName(), f.getName(), newParam.getName(), f.getName()))
+                .collect(Collectors.toList());
+
+        // where条件使用修改前对象的字段值
+        Map<String, SelectiveNameEntry> nameMap = new HashMap<>();
+        for (BeanField bf : oldParam.getBeanFields()) {
+            nameMap.put(StringUtils.upperCamelToLowerCamel(bf.getName()), new BeanField(
+                    oldParam.getName() + "." + bf.getName(), bf.getFieldName(), bf.isUseGeneratedKeys(), bf.isSelective()));
+        }
+
+        /*
+         * <update id="updateBy...Diff">
+         *     <choose>
+         *         <when test="old.f1 != new.f1 or ...">
+         *             update {table} set
+         *             <trim suffixOverrides=",">
+         *                 <if test="old.f1 != new.f1">f1=#{new.f1},</if>
+         *             </trim>
+         *             where ...
+         *         </when>
+         *         <otherwise>
+         *             update {table} set f1=f1 where 1=0
+         *         </otherwise>
+         *     </choose>
+         * </update>
+         */
+        StmtElement updateStmtElement = addUpdateElement(methodName, null);
+        Element updateElement = updateStmtElement.getElement();
+
+        addTextNode(updateElement, LF, INDENT);
+        Element chooseElement = addElement(updateElement, "choose");
+        addTextNode(chooseElement, LF, indent(2));
+        Element whenElement = addElement(chooseElement, "when");
+        whenElement.setAttribute("test", String.join(" or ", diffTests));
+        addTextNode(whenElement, LF, indent(3), "update ", tableName, " set ", LF, indent(3));
+        Element trimElement = addElement(whenElement, "trim");
+        trimElement.setAttribute("suffixOverrides", ",");
+        for (int i = 0; i < setFields.size(); i++) {
+            BeanField bf = setFields.get(i);
+            addTextNode(trimElement, LF, indent(4));
+            Element ifElement = addElement(trimElement, "if");
+            ifElement.setAttribute("test", diffTests.get(i));
+            addTextNode(ifElement, String.format("%s=#{%s.%s},", bf.getFieldName(), newParam.getName(), bf.getName()));
+        }
+        BeanField versionField = oldParam.findVersionField();
+        if (versionField != null) {
+            addTextNode(trimElement, LF, indent(4), versionIncrement(versionField), ",");
+        }
+        addTextNode(trimElement, LF, indent(3));
+        addTextNode(whenElement, LF, indent(3));
+        translateBy(whenElement, (By) update.getChild(0), nameMap, 3, versionCondition(versionField, oldParam.getName()));
+        addTextNode(whenElement, LF, indent(2));
+        addTextNode(chooseElement, LF, indent(2));
+        // mybatis无法跳过语句，没有字段变化时执行一条不匹配任何行的语句，不会产生任何写入
+        Element otherwiseElement = addElement(chooseElement, "otherwise");
+        String noopField = setFields.get(0).getFieldName();
+        addTextNode(otherwiseElement, LF, indent(3), "update ", tableName, " set ", noopField, "=", noopField, " where 1=0", LF, indent(2));
+        addTextNode(chooseElement, LF, INDENT);
+        addTextNode(updateElement, LF);
+
+        // for subclass
+        postProcessUpdate(update, updateElement);
+
+        updateStmtElement.append();
+    }
+
+    // op不为null时以增减的方式修改字段，如col=col+#{x}
+    private void translateUpdateFields(Update update, String methodName, List<Param> params, String op) {
+        // set列表中的字段优先由专用的入参绑定（赋值时为new{Field}，增减时为{field}Delta），使By条件可以通过同名入参引用同一字段，
+        // 没有专用入参时由同名的入参绑定
+        Map<String, SelectiveNameEntry> nameMap = asNameMap(params);
+        Fields fields = (Fields) update.getChild(0);
+        List<String> setFieldNames = new ArrayList<>();
+        List<SelectiveNameEntry> setEntries = new ArrayList<>();
+        for (int i = 0; i < fields.childrenSize(); i++) {
+            String fieldValue = fields.getChild(i).getLexeme().getValue();
+            String name = StringUtils.upperCamelToLowerCamel(fieldValue);
+            String setName = op == null ? SET_PARAM_PREFIX + fieldValue : name + DELTA_PARAM_SUFFIX;
+            SelectiveNameEntry sameNameEntry = nameMap.get(name);
+            SelectiveNameEntry nameEntry = nameMap.containsKey(setName) ? nameMap.get(setName) : sameNameEntry;
+            if (nameEntry == null) {
+                throw new TranslateException("%s should have %s or %s param", methodName, setName, name);
+            }
+            // 字段名只能由同名入参或set后的字段推导，不能由专用入参的名称推导
+            setFieldNames.add(sameNameEntry != null ? sameNameEntry.getFieldName() : fieldNamingConverter.convert(name));
+            setEntries.add(nameEntry);
+        }
+
+        /*
+         * <update id="update...By...">
+         *     update {table} set f1=#{jf1}, f2=#{jf2} where ...
+         * </update>
+         */
+        String parameterType = params.size() == 1 ? params.get(0).getType() : null;
+        StmtElement updateStmtElement = addUpdateElement(methodName, parameterType);
+        Element updateElement = updateStmtElement.getElement();
+
+        if (isSelective(update)) {
+            addTextNode(updateElement, LF, INDENT, "update ", tableName, " set ", LF, INDENT);
+            Element trimElement = addElement(updateElement, "trim");
+            trimElement.setAttribute("suffixOverrides", ",");
+            for (int i = 0; i < setEntries.size(); i++) {
+                SelectiveNameEntry setEntry = setEntries.get(i);
+                addTextNode(trimElement, LF, INDENT, INDENT);
+                Element ifElement = addElement(trimElement, "if");
+                ifElement.setAttribute("test", String.format("%s != null", setEntry.getName()));
+                addTextNode(ifElement, setExpression(setFieldNames.get(i), setEntry, op), ",");
+            }
+            addTextNode(trimElement, LF, INDENT);
+            addTextNode(updateElement, LF, INDENT);
+        } else {
+            addTextNode(updateElement, LF, INDENT, "update ", tableName, " set ",
+                    IntStream.range(0, setEntries.size())
+                            .mapToObj(i -> setExpression(setFieldNames.get(i), setEntries.get(i), op))
+                            .collect(Collectors.joining(", ")),
+                    LF, INDENT);
+        }
+        translateBy(updateElement, (By) update.getChild(1), nameMap);
+        translateWriteLimit(updateElement, findWriteLimit(methodName, nameMap, false));
+        addTextNode(updateElement, LF);
+
+        // for subclass
+        postProcessUpdate(update, updateElement);
+
+        updateStmtElement.append();
+    }
+
+    private void translateUpdateAll(Update update, String methodName, List<Param> params) {
+        if (params.size() != 1) {
+            throw new TranslateException("%s should have only one param", methodName);
+        }
+
+        Param param = params.get(0);
+        if (!param.isIterable()) {
+            throw new TranslateException("%s should have iterable param", methodName);
+        }
+        if (!param.isJavaBean()) {
+            throw new TranslateException("%s should have java bean param", methodName);
+        }
+
+        // 一条语句无法为每一行分别校验乐观锁版本号
+        if (param.findVersionField() != null) {
+            throw new TranslateException("%s can not check the version of each row in one statement", methodName);
+        }
+
+        // 批量更新只能通过单个键字段区分每一行
+        ASTNode byNode = update.getChild(1).getChild(0);
+        if (!(byNode instanceof ByOp)
+                || !(byNode.getLexeme().isKeyword(Keyword.IS) || byNode.getLexeme().isKeyword(Keyword.EQUALS))) {
+            throw new TranslateException("%s should be by only one key field", methodName);
+        }
+        String keyName = StringUtils.upperCamelToLowerCamel(byNode.getChild(0).getLexeme().getValue());
+        BeanField keyField = param.getBeanFields().stream()
+                .filter(bf -> bf.getName().equals(keyName)).findFirst()
+                .orElseThrow(() -> new TranslateException("%s's param should have %s field", methodName, keyName));
+
+        // 与updateBy相同，自增主键与键字段都不应被修改
+        List<BeanField> bfs = param.getBeanFields().stream()
+                .filter(bf -> !bf.isUseGeneratedKeys() && bf != keyField)
+                .collect(Collectors.toList());
+        if (bfs.isEmpty()) {
+            throw new TranslateException("can not found update field in %s", param.getType());
+        }
+        boolean isSelective = isSelective(update);
+
+        /*
+         * <update id="updateAllBy...">
+         *     update {table} set
+         *     f1=case key
+         *     <foreach collection="collection" item="item">
+         *         when #{item.key} then #{item.jf1}
+         *     </foreach>
+         *     end,
+         *     ...
+         *     where key in
+         *     <foreach collection="collection" item="item" open="(" separator="," close=")">
+         *         #{item.key}
+         *     </foreach>
+         * </update>
+         */
+        StmtElement updateStmtElement = addUpdateElement(methodName, param.getType());
+        Element updateElement = updateStmtElement.getElement();
+
+        addTextNode(updateElement, LF, INDENT, "update ", tableName, " set", LF);
+        for (int i = 0; i < bfs.size(); i++) {
+            BeanField bf = bfs.get(i);
+            addTextNode(updateElement, INDENT, bf.getFieldName(), "=case ", keyField.getFieldName(), LF, INDENT);
+            Element foreachElement = addElement(updateElement, "foreach");
+            foreachElement.setAttribute("collection", "collection");
+            foreachElement.setAttribute("item", "item");
+            addTextNode(foreachElement, LF, indent(2), "when #{item.", keyField.getName(), "} then ");
+            if (isSelective) {
+                // 空值保持原值不变
+                addTextNode(foreachElement, LF, indent(2));
+                Element chooseElement = addElement(foreachElement, "choose");
+                addTextNode(chooseElement, LF, indent(3));
+                Element whenElement = addElement(chooseElement, "when");
+                whenElement.setAttribute("test", String.format("item.%s != null", bf.getName()));
+                addTextNode(whenElement, "#{item.", bf.getName(), "}");
+                addTextNode(chooseElement, LF, indent(3));
+                Element otherwiseElement = addElement(chooseElement, "otherwise");
+                addTextNode(otherwiseElement, bf.getFieldName());
+                addTextNode(chooseElement, LF, indent(2));
+            } else {
+                addTextNode(foreachElement, "#{item.", bf.getName(), "}");
+            }
+            addTextNode(foreachElement, LF, INDENT);
+            addTextNode(updateElement, LF, INDENT, "end", i < bfs.size() - 1 ? "," : "", LF);
+        }
+
+        addTextNode(updateElement, INDENT, "where ", keyField.getFieldName(), " in", LF, INDENT);
+        Element foreachElement = addElement(updateElement, "foreach");
+        foreachElement.setAttribute("collection", "collection");
+        foreachElement.setAttribute("item", "item");
+        foreachElement.setAttribute("open", "(");
+        foreachElement.setAttribute("separator", ",");
+        foreachElement.setAttribute("close", ")");
+        addTextNode(foreachElement, LF, indent(2), "#{item.", keyField.getName(), "}", LF, INDENT);
         addTextNode(updateElement, LF);
 
         // for subclass
@@ -456,26 +854,43 @@ public class Sql92Translator extends Translator {
     }
 
     private void translateFind(Find find, String methodName, List<Param> params, Return ret) {
-        if (ret == null || !ret.isJavaBean()) {
+        Fields fields = findFields(find);
+        if (ret == null || (!ret.isJavaBean() && fields == null)) {
             throw new TranslateException("%s should have java bean return", methodName);
         }
-        if (ret.getBeanFields() == null || ret.getBeanFields().isEmpty()) {
+        if (ret.isJavaBean() && (ret.getBeanFields() == null || ret.getBeanFields().isEmpty())) {
             throw new TranslateException("%s must be have field", ret.getType());
         }
 
         /*
          * <select id="find...">
-         *     select ... from {table} where ... order by ...
+         *     select ... from {table} where ... order by ... limit ...
          * </select>
          */
+        List<BeanField> selectFields = null;
+        if (ret.isJavaBean()) {
+            selectFields = fields == null ? getSelectFields(ret) : getProjectionFields(fields, ret);
+        } else if (fields.childrenSize() > 1) {
+            throw new TranslateException("%s should have java bean return when finding multiple fields", methodName);
+        }
+
+        // 存在流式字段时需要通过resultMap指定typeHandler
+        StmtElement resultMapStmtElement = null;
+        if (selectFields != null && hasStreamField(selectFields)) {
+            resultMapStmtElement = translateStreamResultMap(methodName + "ResultMap", ret.getType(), selectFields);
+        }
+
         String parameterType = params.size() == 1 ? params.get(0).getType() : null;
-        StmtElement selectStmtElement = addSelectElement(methodName, parameterType, ret.getType());
+        StmtElement selectStmtElement = addSelectElement(methodName, parameterType, resultMapStmtElement == null ? ret.getType() : null);
         Element selectElement = selectStmtElement.getElement();
+        if (resultMapStmtElement != null) {
+            selectElement.setAttribute("resultMap", methodName + "ResultMap");
+        }
+        translateStreaming(selectElement, ret);
 
         addTextNode(selectElement, LF, INDENT, "select ",
-                ret.getBeanFields().stream()
-                        .map(f -> f.getFieldName().equals(f.getName()) ? f.getFieldName() : String.format("%s as %s", f.getFieldName(), f.getName()))
-                        .collect(Collectors.joining(", ")),
+                selectFields != null ? joinSelectFields(selectFields)
+                        : fieldNamingConverter.convert(StringUtils.upperCamelToLowerCamel(fields.getChild(0).getLexeme().getValue())),
                 LF, INDENT, "from ", tableName, LF
                 );
 
@@ -486,23 +901,77 @@ public class Sql92Translator extends Translator {
             addTextNode(selectElement, LF);
         }
 
-        if (find.childrenSize() > 1) {
+        if (find.childrenSize() > 1 && find.getChild(1) instanceof OrderBy) {
             addTextNode(selectElement, INDENT);
             translateOrderBy(selectElement, (OrderBy) find.getChild(1));
             addTextNode(selectElement, LF);
+        } else {
+            String defaultOrderBy = getDefaultOrderBy(find);
+            if (defaultOrderBy != null) {
+                addTextNode(selectElement, INDENT, "order by ", defaultOrderBy, LF);
+            }
+        }
+
+        int limit = getFindLimit(findTop(find), ret);
+        if (limit > 0) {
+            addTextNode(selectElement, INDENT, "limit ", String.valueOf(limit), LF);
         }
 
         // for subclass
         postProcessFind(find, selectElement);
 
+        if (resultMapStmtElement != null) {
+            resultMapStmtElement.append();
+        }
         selectStmtElement.append();
     }
 
+    // 只查询find与By之间指定的字段，使数据库可以直接通过覆盖索引返回结果而无需回表
+    private List<BeanField> getProjectionFields(Fields fields, Return ret) {
+        List<BeanField> projectionFields = new ArrayList<>();
+        for (int i = 0; i < fields.childrenSize(); i++) {
+            String name = StringUtils.upperCamelToLowerCamel(fields.getChild(i).getLexeme().getValue());
+            BeanField bf = ret.getBeanFields().stream()
+                    .filter(f -> f.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new TranslateException("%s does not have %s field", ret.getType(), name));
+            projectionFields.add(bf);
+        }
+        return projectionFields;
+    }
+
+    private String joinSelectFields(List<BeanField> selectFields) {
+        return selectFields.stream()
+                .map(f -> f.getFieldName().equals(f.getName()) ? f.getFieldName() : String.format("%s as %s", f.getFieldName(), f.getName()))
+                .collect(Collectors.joining(", "));
+    }
+
+    // 延迟加载的字段不出现在默认的查询列表中
+    private List<BeanField> getSelectFields(Return ret) {
+        return ret.getBeanFields().stream().filter(f -> !f.isLazy()).collect(Collectors.toList());
+    }
+
+    // First、Top{N}指定了查询的行数，否则返回值为单个对象时只需读取足以判断结果是否唯一的行数
+    private int getFindLimit(Top top, Return ret) {
+        if (top != null) {
+            return top.getLexeme().isKeyword(Keyword.FIRST) ? 1 : Integer.parseInt(top.getChild(0).getLexeme().getValue());
+        }
+        if (!ret.isIterable()) {
+            return singleResultLimit;
+        }
+        return 0;
+    }
+
     private void translateCount(Count count, String methodName, List<Param> params, Return ret) {
         if (!isIntOrLong(ret.getType())) {
             throw new TranslateException("%s's return should be int or long or Integer or Long", methodName);
         }
 
+        if (isUpTo(count)) {
+            translateCountUpTo(count, methodName, params, ret);
+            return;
+        }
+
         /*
          * <select id="count...">
          *     select count(*) from {table} where ... order by ...
@@ -527,10 +996,94 @@ public class Sql92Translator extends Translator {
         selectStmtElement.append();
     }
 
-    private void translatePage(Page page, String methodName, List<Param> params, Return ret) {
+    private void translateCountUpTo(Count count, String methodName, List<Param> params, Return ret) {
+        Map<String, SelectiveNameEntry> nameMap = asNameMap(params);
+        SelectiveNameEntry limit = nameMap.get(LIMIT);
+        if (limit == null) {
+            throw new TranslateException("%s should have limit params", methodName);
+        }
+        if (!isIntOrLong(((Param) limit).getType())) {
+            throw new TranslateException("%s's limit should be int or long or Integer or Long", methodName);
+        }
+
+        /*
+         * <select id="count...UpTo">
+         *     select count(*) from (
+         *         select 1 from {table} where ... limit #{limit}
+         *     ) t
+         * </select>
+         */
+        String parameterType = params.size() == 1 ? params.get(0).getType() : null;
+        StmtElement selectStmtElement = addSelectElement(methodName, parameterType, ret.getType());
+        Element selectElement = selectStmtElement.getElement();
+
+        // 子查询最多读取limit行，使计数的代价不随匹配行数增长
+        addTextNode(selectElement, LF, INDENT, "select count(*)", LF, INDENT, "from (",
+                LF, indent(2), "select 1", LF, indent(2), "from ", tableName, LF);
+
+        ASTNode child = count.getChild(0);
+        if (!child.getLexeme().isKeyword(Keyword.ALL)) {
+            addTextNode(selectElement, indent(2));
+            translateBy(selectElement, (By) child, nameMap, 2);
+            addTextNode(selectElement, LF);
+        }
+
+        addTextNode(selectElement, indent(2), "limit #{", limit.getName(), "}", LF, INDENT, ") t", LF);
+
+        // for subclass
+        postProcessCount(count, selectElement);
+
+        selectStmtElement.append();
+    }
+
+    private void translateExists(Exists exists, String methodName, List<Param> params, Return ret) {
+        if (!"boolean".equals(ret.getType()) && !"java.lang.Boolean".equals(ret.getType())) {
+            throw new TranslateException("%s's return should be boolean or Boolean", methodName);
+        }
+        if (isUpTo(exists)) {
+            throw new TranslateException("%s can not be used with %s", methodName, Keyword.UP_TO.getValue());
+        }
+
+        /*
+         * <select id="exists...">
+         *     select exists(
+         *         select 1 from {table} where ...
+         *     )
+         * </select>
+         */
+        String parameterType = params.size() == 1 ? params.get(0).getType() : null;
+        StmtElement selectStmtElement = addSelectElement(methodName, parameterType, ret.getType());
+        Element selectElement = selectStmtElement.getElement();
+
+        // exists子查询在找到第一行后即返回，并且总是返回一行结果，因此可以映射到基本类型boolean
+        addTextNode(selectElement, LF, INDENT, "select exists(", LF, indent(2), "select 1", LF, indent(2), "from ", tableName, LF);
+
+        ASTNode child = exists.getChild(0);
+        if (!child.getLexeme().isKeyword(Keyword.ALL)) {
+            addTextNode(selectElement, indent(2));
+            translateBy(selectElement, (By) child, asNameMap(params), 2);
+            addTextNode(selectElement, LF);
+        }
+
+        addTextNode(selectElement, INDENT, ")", LF);
+
+        // for subclass
+        postProcessExists(exists, selectElement);
+
+        selectStmtElement.append();
+    }
+
+    private void translatePage(Page page, String methodName, List<Param> params, Return ret, String deferredJoinKey) {
         if (!ret.isJavaBean()) {
             throw new TranslateException("%s should have java bean return", methodName);
         }
+        Top top = findTop(page);
+        if (top != null) {
+            throw new TranslateException("%s can not be used with %s", methodName, top.getLexeme().getValue());
+        }
+        if (findFields(page) != null) {
+            throw new TranslateException("%s can not specify the fields to find", methodName);
+        }
 
         Map<String, SelectiveNameEntry> nameMap = asNameMap(params);
         SelectiveNameEntry offset = nameMap.get(OFFSET);
@@ -545,44 +1098,332 @@ public class Sql92Translator extends Translator {
             throw new TranslateException("%s's limit should be int or long or Integer or Long", methodName);
         }
 
+        // 使用after游标进行keyset分页，游标对应的列即为排序列
+        SelectiveNameEntry after = nameMap.get(AFTER);
+        List<OrderByOp> afterOrderByOps = null;
+        if (after != null) {
+            if (offset != null) {
+                throw new TranslateException("%s can not have both offset and after params", methodName);
+            }
+            if (page.childrenSize() < 2) {
+                throw new TranslateException("%s should have order by when using after param", methodName);
+            }
+            afterOrderByOps = collectOrderByOps(page.getChild(1).getChild(0), new ArrayList<>());
+            checkAfter(methodName, (Param) after, afterOrderByOps);
+        }
+
+        BeanField deferredJoinField = null;
+        if (deferredJoinKey != null) {
+            deferredJoinField = ret.getBeanFields().stream()
+                    .filter(f -> f.getName().equals(deferredJoinKey)).findFirst()
+                    .orElseThrow(() -> new TranslateException("%s's return should have %s field", methodName, deferredJoinKey));
+        }
+
+        // 携带总数的分页包装类型需要在同一条语句中查询出总数
+        PageWrapper pageWrapper = ret.getPageWrapper();
+        String totalExpression = null;
+        if (pageWrapper != null) {
+            if (deferredJoinField != null || after != null) {
+                throw new TranslateException("%s's page wrapper return can not be used with deferred join or after param", methodName);
+            }
+            totalExpression = getTotalExpression();
+            if (totalExpression == null) {
+                throw new TranslateException("%s's page wrapper return is not supported by current dbType", methodName);
+            }
+            if (ret.getBeanFields().stream().anyMatch(f -> f.getName().equals(pageWrapper.getTotalName()))) {
+                throw new TranslateException("%s's page wrapper total field %s conflicts with the item field", methodName, pageWrapper.getTotalName());
+            }
+            // 锁定读子句不会作用于派生表中的行
+            if (isLockingRead(page.getLexeme())) {
+                throw new TranslateException("%s's page wrapper return can not be used with %s", methodName, page.getLexeme().getValue());
+            }
+        }
+
+        StmtElement resultMapStmtElement = null;
+        if (pageWrapper != null) {
+            resultMapStmtElement = translatePageWrapperResultMap(methodName + "ResultMap", pageWrapper, ret,
+                    getPageWrapperKeyField(methodName, ret));
+        } else if (hasStreamField(getSelectFields(ret))) {
+            resultMapStmtElement = translateStreamResultMap(methodName + "ResultMap", ret.getType(), getSelectFields(ret));
+        }
+
         /*
          * <select id="page...">
          *     select ... from {table} where ... order by ...
          * </select>
          */
         String parameterType = params.size() == 1 ? params.get(0).getType() : null;
-        StmtElement selectStmtElement = addSelectElement(methodName, parameterType, ret.getType());
+        StmtElement selectStmtElement = addSelectElement(methodName, parameterType, resultMapStmtElement == null ? ret.getType() : null);
         Element selectElement = selectStmtElement.getElement();
+        if (resultMapStmtElement != null) {
+            selectElement.setAttribute("resultMap", methodName + "ResultMap");
+        }
+        translateStreaming(selectElement, ret);
 
-        addTextNode(selectElement, LF, INDENT, "select ",
-                ret.getBeanFields().stream()
-                        .map(f -> f.getFieldName().equals(f.getName()) ? f.getFieldName() : String.format("%s as %s", f.getFieldName(), f.getName()))
-                        .collect(Collectors.joining(", ")),
-                LF, INDENT, "from ", tableName, LF);
+        if (pageWrapper != null) {
+            translatePageWrapperSelect(selectElement, page, nameMap, (Param) offset, pageWrapper, totalExpression, ret);
+        } else if (deferredJoinField == null) {
+            addTextNode(selectElement, LF, INDENT, "select ", joinSelectFields(getSelectFields(ret)), LF, INDENT, "from ", tableName, LF);
+            translatePageCondition(selectElement, page, nameMap, (Param) offset, (Param) after, afterOrderByOps, 1);
+        } else {
+            /*
+             * join (
+             *     select {key} from {table} where ... order by ... limit ...
+             * ) k using({key})
+             * order by ...
+             */
+            String key = deferredJoinField.getFieldName();
+            addTextNode(selectElement, LF, INDENT, "select ", joinSelectFields(getSelectFields(ret)), LF, INDENT, "from ", tableName, LF);
+            addTextNode(selectElement, INDENT, "join (", LF,
+                    indent(2), "select ", key, LF,
+                    indent(2), "from ", tableName, LF);
+            translatePageCondition(selectElement, page, nameMap, (Param) offset, (Param) after, afterOrderByOps, 2);
+            addTextNode(selectElement, INDENT, ") k using(", key, ")", LF);
+
+            // 关联后无法保证子查询的顺序，需要在外层重新排序
+            translatePageOrderBy(selectElement, page, 1);
+        }
+
+        // for subclass
+        postProcessPage(page, selectElement);
 
+        if (resultMapStmtElement != null) {
+            resultMapStmtElement.append();
+        }
+        selectStmtElement.append();
+    }
+
+    /*
+     * 当前页没有数据时（包括offset超出总数）窗口函数不会返回任何行，因此以单行的派生表左连接分页结果，
+     * 保证至少返回一行，并在没有数据时回退为count查询得到总数：
+     *
+     * select t.{c1}, t.{c2} as {f2}, coalesce(t.{total}, (
+     *     select count(*)
+     *     from {table}
+     *     where ...
+     * )) as {total}
+     * from (select 1) d
+     * left join (
+     *     select {c1}, {c2}, count(*) over() as {total}
+     *     from {table}
+     *     where ...
+     *     order by ...
+     *     limit ...
+     * ) t on true
+     * order by ...
+     */
+    private void translatePageWrapperSelect(Element selectElement, Page page, Map<String, SelectiveNameEntry> nameMap,
+                                            Param offset, PageWrapper pageWrapper, String totalExpression, Return ret) {
+        List<BeanField> selectFields = getSelectFields(ret);
+        String totalName = pageWrapper.getTotalName();
         ASTNode child = page.getChild(0);
+
+        addTextNode(selectElement, LF, INDENT, "select ",
+                selectFields.stream()
+                        .map(f -> f.getFieldName().equals(f.getName()) ? "t." + f.getFieldName() : String.format("t.%s as %s", f.getFieldName(), f.getName()))
+                        .collect(Collectors.joining(", ")),
+                ", coalesce(t.", totalName, ", (", LF,
+                indent(2), "select count(*)", LF,
+                indent(2), "from ", tableName, LF);
         if (!child.getLexeme().isKeyword(Keyword.ALL)) {
-            addTextNode(selectElement, INDENT);
-            translateBy(selectElement, (By) child, nameMap);
+            addTextNode(selectElement, indent(2));
+            translateBy(selectElement, (By) child, nameMap, 2);
             addTextNode(selectElement, LF);
         }
-
+        addTextNode(selectElement, INDENT, ")) as ", totalName, LF,
+                INDENT, "from (select 1) d", LF,
+                INDENT, "left join (", LF,
+                indent(2), "select ", selectFields.stream().map(BeanField::getFieldName).collect(Collectors.joining(", ")),
+                ", ", totalExpression, " as ", totalName, LF,
+                indent(2), "from ", tableName, LF);
+        translatePageCondition(selectElement, page, nameMap, offset, null, null, 2);
+        addTextNode(selectElement, INDENT, ") t on true", LF);
+
+        // 关联后无法保证子查询的顺序，需要在外层重新排序
         if (page.childrenSize() > 1) {
             addTextNode(selectElement, INDENT);
             translateOrderBy(selectElement, (OrderBy) page.getChild(1));
             addTextNode(selectElement, LF);
         }
+    }
+
+    // 分页包装类型中的元素需要通过键字段区分，否则mybatis会合并所有列都相同的行
+    private BeanField getPageWrapperKeyField(String methodName, Return ret) {
+        List<BeanField> selectFields = getSelectFields(ret);
+        return selectFields.stream().filter(BeanField::isUseGeneratedKeys).findFirst()
+                .orElseGet(() -> selectFields.stream().filter(f -> f.getName().equals("id")).findFirst()
+                        .orElseThrow(() -> new TranslateException("%s's page wrapper item should select a @UseGeneratedKeys or id field", methodName)));
+    }
+
+    private StmtElement translatePageWrapperResultMap(String id, PageWrapper pageWrapper, Return ret, BeanField keyField) {
+        /*
+         * <resultMap id="page...ResultMap" type="{wrapper}">
+         *     <result property="{total}" column="{total}"/>
+         *     <collection property="{items}" ofType="{item}">
+         *         <result property="..." column="..."/>
+         *     </collection>
+         * </resultMap>
+         */
+        StmtElement resultMapStmtElement = addResultMapElement(id, pageWrapper.getType());
+        Element resultMapElement = resultMapStmtElement.getElement();
+
+        addTextNode(resultMapElement, LF, INDENT);
+        Element totalElement = addElement(resultMapElement, "result");
+        totalElement.setAttribute("property", pageWrapper.getTotalName());
+        totalElement.setAttribute("column", pageWrapper.getTotalName());
+
+        addTextNode(resultMapElement, LF, INDENT);
+        Element collectionElement = addElement(resultMapElement, "collection");
+        collectionElement.setAttribute("property", pageWrapper.getItemsName());
+        collectionElement.setAttribute("ofType", ret.getType());
+        for (BeanField bf : getSelectFields(ret)) {
+            addTextNode(collectionElement, LF, indent(2));
+            addResultElement(collectionElement, bf, bf == keyField);
+        }
+        addTextNode(collectionElement, LF, INDENT);
+        addTextNode(resultMapElement, LF);
+
+        return resultMapStmtElement;
+    }
+
+    private StmtElement translateStreamResultMap(String id, String type, List<BeanField> selectFields) {
+        /*
+         * <resultMap id="...ResultMap" type="{bean}">
+         *     <result property="..." column="..." typeHandler="..."/>
+         * </resultMap>
+         */
+        StmtElement resultMapStmtElement = addResultMapElement(id, type);
+        Element resultMapElement = resultMapStmtElement.getElement();
+        for (BeanField bf : selectFields) {
+            addTextNode(resultMapElement, LF, INDENT);
+            addResultElement(resultMapElement, bf, bf.isUseGeneratedKeys());
+        }
+        addTextNode(resultMapElement, LF);
+
+        return resultMapStmtElement;
+    }
+
+    // 通过Cursor或ResultHandler逐行读取时，需要驱动按块而非一次性拉取全部结果
+    private void translateStreaming(Element selectElement, Return ret) {
+        if (ret.isStreaming()) {
+            selectElement.setAttribute("fetchSize", String.valueOf(getStreamingFetchSize()));
+            selectElement.setAttribute("resultSetType", "FORWARD_ONLY");
+        }
+    }
+
+    private void addResultElement(Element parent, BeanField bf, boolean isId) {
+        Element resultElement = addElement(parent, isId ? "id" : "result");
+        resultElement.setAttribute("property", bf.getName());
+        resultElement.setAttribute("column", bf.getName());
+        if (bf.getTypeHandler() != null) {
+            resultElement.setAttribute("typeHandler", bf.getTypeHandler());
+        }
+    }
+
+    private boolean hasStreamField(List<BeanField> selectFields) {
+        return selectFields.stream().anyMatch(f -> f.getTypeHandler() != null);
+    }
+
+    private void translatePageOrderBy(Element parent, Page page, int indent) {
+        if (page.childrenSize() > 1) {
+            addTextNode(parent, indent(indent));
+            translateOrderBy(parent, (OrderBy) page.getChild(1));
+            addTextNode(parent, LF);
+        } else {
+            String defaultOrderBy = getDefaultOrderBy(page);
+            if (defaultOrderBy != null) {
+                addTextNode(parent, indent(indent), "order by ", defaultOrderBy, LF);
+            }
+        }
+    }
+
+    private void translatePageCondition(Element parent, Page page, Map<String, SelectiveNameEntry> nameMap,
+                                        Param offset, Param after, List<OrderByOp> afterOrderByOps, int indent) {
+        ASTNode child = page.getChild(0);
+        if (after != null) {
+            /*
+             * <where>
+             *     ...
+             *     <if test="after != null">
+             *         and (c1, c2) > (#{after.c1}, #{after.c2})
+             *     </if>
+             * </where>
+             */
+            addTextNode(parent, indent(indent));
+            Element whereElement = addElement(parent, "where");
+            if (!child.getLexeme().isKeyword(Keyword.ALL)) {
+                doTranslateBy(whereElement, child.getChild(0), nameMap, new LinkedList<>(), indent + 1, false);
+            }
+            translateAfter(whereElement, after, afterOrderByOps, indent + 1);
+            addTextNode(whereElement, LF, indent(indent));
+            addTextNode(parent, LF);
+        } else if (!child.getLexeme().isKeyword(Keyword.ALL)) {
+            addTextNode(parent, indent(indent));
+            translateBy(parent, (By) child, nameMap, indent);
+            addTextNode(parent, LF);
+        }
 
-        addTextNode(selectElement, INDENT, "limit ");
+        translatePageOrderBy(parent, page, indent);
+
+        addTextNode(parent, indent(indent), "limit ");
         if (offset != null) {
-            addTextNode(selectElement, "#{offset},");
+            addTextNode(parent, "#{offset},");
         }
-        addTextNode(selectElement, "#{limit}", LF);
+        addTextNode(parent, "#{limit}", LF);
+    }
 
-        // for subclass
-        postProcessPage(page, selectElement);
+    private void checkAfter(String methodName, Param after, List<OrderByOp> orderByOps) {
+        Token direction = orderByOps.get(0).getLexeme();
+        for (OrderByOp orderByOp : orderByOps) {
+            if (!orderByOp.getLexeme().equals(direction)) {
+                throw new TranslateException("%s's order by should have the same direction when using after param", methodName);
+            }
+        }
 
-        selectStmtElement.append();
+        if (after.isJavaBean()) {
+            for (OrderByOp orderByOp : orderByOps) {
+                String name = StringUtils.upperCamelToLowerCamel(orderByOp.getChild(0).getLexeme().getValue());
+                if (after.getBeanFields().stream().noneMatch(bf -> bf.getName().equals(name))) {
+                    throw new TranslateException("%s's after param should have %s field", methodName, name);
+                }
+            }
+        } else if (orderByOps.size() != 1) {
+            throw new TranslateException("%s's after param should be java bean when order by multiple fields", methodName);
+        }
+    }
+
+    private void translateAfter(Element parent, Param after, List<OrderByOp> orderByOps, int indent) {
+        List<String> fieldNames = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (OrderByOp orderByOp : orderByOps) {
+            String name = StringUtils.upperCamelToLowerCamel(orderByOp.getChild(0).getLexeme().getValue());
+            fieldNames.add(fieldNamingConverter.convert(name));
+            values.add(after.isJavaBean() ? String.format("#{%s.%s}", after.getName(), name) : String.format("#{%s}", after.getName()));
+        }
+        String op = orderByOps.get(0).getLexeme().isKeyword(Keyword.DESC) ? "<" : ">";
+
+        addTextNode(parent, LF, indent(indent));
+        Element ifElement = addElement(parent, "if");
+        ifElement.setAttribute("test", String.format("%s != null", after.getName()));
+        addTextNode(ifElement, LF, indent(indent + 1), "and ");
+        if (fieldNames.size() == 1) {
+            addTextNode(ifElement, fieldNames.get(0), op, values.get(0));
+        } else {
+            addTextNode(ifElement, "(", String.join(", ", fieldNames), ") ", op, " (", String.join(", ", values), ")");
+        }
+        addTextNode(ifElement, LF, indent(indent));
+    }
+
+    private List<OrderByOp> collectOrderByOps(ASTNode node, List<OrderByOp> collector) {
+        if (node instanceof ConnectOp) {
+            collectOrderByOps(node.getChild(0), collector);
+            collectOrderByOps(node.getChild(1), collector);
+        } else if (node instanceof OrderByOp) {
+            collector.add((OrderByOp) node);
+        } else {
+            throw new TranslateException("Translate error, %s", node);
+        }
+        return collector;
     }
 
     private boolean isIntOrLong(String type) {
@@ -601,26 +1442,108 @@ public class Sql92Translator extends Translator {
     }
 
     private void translateBy(Element parent, By by, Map<String, SelectiveNameEntry> nameMap) {
-//        addTextNode(parent, "where", BLANK);
-        Element whereElement = addElement(parent, "where");
-        doTranslateBy(whereElement, by.getChild(0), nameMap, new LinkedList<>());
-        addTextNode(whereElement, LF, INDENT);
+        translateBy(parent, by, nameMap, 1);
+    }
+
+    private void translateBy(Element parent, By by, Map<String, SelectiveNameEntry> nameMap, String extraCondition) {
+        translateBy(parent, by, nameMap, 1, extraCondition);
+    }
+
+    private void translateBy(Element parent, By by, Map<String, SelectiveNameEntry> nameMap, int indent) {
+        translateBy(parent, by, nameMap, indent, null);
+    }
+
+    // extraCondition不为null时将以and连接在By条件之后，By条件含有or时需要加上括号，避免extraCondition只约束最后一个or分支
+    private void translateBy(Element parent, By by, Map<String, SelectiveNameEntry> nameMap, int indent, String extraCondition) {
+        boolean isGrouped = extraCondition != null && hasOr(by.getChild(0));
+        // 只有存在可选条件时才需要<where>动态裁剪，否则输出静态的where语句，使mybatis在启动时即可构建RawSqlSource
+        if (hasSelective(by.getChild(0), nameMap)) {
+            Element whereElement = addElement(parent, "where");
+            if (isGrouped) {
+                addTextNode(whereElement, LF, indent(indent + 1));
+                Element trimElement = addElement(whereElement, "trim");
+                trimElement.setAttribute("prefix", "(");
+                trimElement.setAttribute("suffix", ")");
+                trimElement.setAttribute("prefixOverrides", "and |or ");
+                doTranslateBy(trimElement, by.getChild(0), nameMap, new LinkedList<>(), indent + 2, false);
+                addTextNode(trimElement, LF, indent(indent + 1));
+            } else {
+                doTranslateBy(whereElement, by.getChild(0), nameMap, new LinkedList<>(), indent + 1, false);
+            }
+            if (extraCondition != null) {
+                addTextNode(whereElement, LF, indent(indent + 1), "and ", extraCondition);
+                // 所有可选条件都为null时extraCondition将成为唯一的条件，此时不应匹配任何行
+                List<String> selectiveNames = new ArrayList<>();
+                if (collectSelectiveNames(by.getChild(0), nameMap, selectiveNames)) {
+                    addTextNode(whereElement, LF, indent(indent + 1));
+                    Element ifElement = addElement(whereElement, "if");
+                    ifElement.setAttribute("test", selectiveNames.stream()
+                            .map(name -> String.format("%s == null", name))
+                            .collect(Collectors.joining(" and ")));
+                    addTextNode(ifElement, "and 1=0");
+                }
+            }
+            addTextNode(whereElement, LF, indent(indent));
+        } else {
+            addTextNode(parent, "where", BLANK, isGrouped ? "(" : "");
+            doTranslateBy(parent, by.getChild(0), nameMap, new LinkedList<>(), indent, true);
+            if (extraCondition != null) {
+                addTextNode(parent, isGrouped ? ")" : "", LF, indent(indent), "and ", extraCondition);
+            }
+        }
+    }
+
+    private boolean hasOr(ASTNode node) {
+        if (node instanceof ConnectOp) {
+            return node.getLexeme().isKeyword(Keyword.OR) || hasOr(node.getChild(0)) || hasOr(node.getChild(1));
+        }
+        return false;
+    }
+
+    // 收集所有可选条件的名称，存在非可选条件时返回false
+    private boolean collectSelectiveNames(ASTNode node, Map<String, SelectiveNameEntry> nameMap, List<String> selectiveNames) {
+        if (node instanceof ConnectOp) {
+            return collectSelectiveNames(node.getChild(0), nameMap, selectiveNames)
+                    & collectSelectiveNames(node.getChild(1), nameMap, selectiveNames);
+        } else if (node instanceof ByOp) {
+            SelectiveNameEntry nameEntry = findNameEntry((Variable) node.getChild(0), nameMap);
+            if (!nameEntry.isSelective()) {
+                return false;
+            }
+            if (!selectiveNames.contains(nameEntry.getName())) {
+                selectiveNames.add(nameEntry.getName());
+            }
+            return true;
+        } else {
+            throw new TranslateException("Translate error, %s", node);
+        }
     }
 
-    private void doTranslateBy(Element parent, ASTNode node, Map<String, SelectiveNameEntry> nameMap, LinkedList<String> connStack) {
+    private boolean hasSelective(ASTNode node, Map<String, SelectiveNameEntry> nameMap) {
         if (node instanceof ConnectOp) {
-            doTranslateBy(parent, node.getChild(0), nameMap, connStack);
-//            addTextNode(parent, LF, INDENT, node.getLexeme().getValue().toLowerCase(), BLANK);
+            return hasSelective(node.getChild(0), nameMap) || hasSelective(node.getChild(1), nameMap);
+        } else if (node instanceof ByOp) {
+            return findNameEntry((Variable) node.getChild(0), nameMap).isSelective();
+        } else {
+            throw new TranslateException("Translate error, %s", node);
+        }
+    }
+
+    private void doTranslateBy(Element parent, ASTNode node, Map<String, SelectiveNameEntry> nameMap,
+                               LinkedList<String> connStack, int indent, boolean isStatic) {
+        if (node instanceof ConnectOp) {
+            doTranslateBy(parent, node.getChild(0), nameMap, connStack, indent, isStatic);
             connStack.push(node.getLexeme().getValue().toLowerCase());
-            doTranslateBy(parent, node.getChild(1), nameMap, connStack);
+            doTranslateBy(parent, node.getChild(1), nameMap, connStack, indent, isStatic);
         } else if (node instanceof ByOp) {
-            translateByOp(parent, (ByOp) node, nameMap, connStack);
+            translateByOp(parent, (ByOp) node, nameMap, connStack, indent, isStatic);
         } else {
             throw new TranslateException("Translate error, %s", node);
         }
     }
 
-    private void translateByOp(Element parent, ByOp byOp, Map<String, SelectiveNameEntry> nameMap, LinkedList<String> connStack) {
+    private void translateByOp(Element parent, ByOp byOp, Map<String, SelectiveNameEntry> nameMap,
+                               LinkedList<String> connStack, int indent, boolean isStatic) {
         Token lexeme = byOp.getLexeme();
         Keyword kw = Keyword.of(lexeme.getValue());
         ByTranslator translator = byTranslatorMap.get(kw);
@@ -628,37 +1551,47 @@ public class Sql92Translator extends Translator {
             throw new TranslateException("Translate error, %s", byOp);
         }
 
-        Variable variable = (Variable) byOp.getChild(0);
-        SelectiveNameEntry nameEntry = nameMap.get(StringUtils.upperCamelToLowerCamel(variable.getLexeme().getValue()));
+        SelectiveNameEntry nameEntry = findNameEntry((Variable) byOp.getChild(0), nameMap);
         boolean isSingleParam = nameMap.size() == 1;
-        if (nameEntry == null) {
-            if (isSingleParam) {
-                // 采用降级策略，使用该策略必须确保在之前的代码中设置了parameterType
-                nameEntry = nameMap.entrySet().iterator().next().getValue();
-            } else {
-                throw new TranslateException("Can not found name entry %s", variable.getLexeme().getValue());
-            }
-        }
 
-        if (nameEntry.isSelective()) {
-            addTextNode(parent, LF, INDENT, INDENT);
+        if (isStatic) {
+            // 静态语句的第一个条件紧跟在where之后
+            if (!connStack.isEmpty()) {
+                addTextNode(parent, LF, indent(indent), connStack.pop(), BLANK);
+            }
+            translator.translate(nameEntry, tagName -> addElement(parent, tagName), texts -> addTextNode(parent, texts), isSingleParam, indent);
+        } else if (nameEntry.isSelective()) {
+            addTextNode(parent, LF, indent(indent));
             Element ifElement = addElement(parent, "if");
             ifElement.setAttribute("test", String.format("%s != null", nameEntry.getName()));
-            addTextNode(ifElement, LF, INDENT, INDENT, INDENT);
+            addTextNode(ifElement, LF, indent(indent + 1));
             if (!connStack.isEmpty()) {
                 addTextNode(ifElement, connStack.pop(), BLANK);
             }
-            translator.translate(nameEntry, tagName -> addElement(ifElement, tagName), texts -> addTextNode(ifElement, texts), isSingleParam, 3);
-            addTextNode(ifElement, LF, INDENT, INDENT);
+            translator.translate(nameEntry, tagName -> addElement(ifElement, tagName), texts -> addTextNode(ifElement, texts), isSingleParam, indent + 1);
+            addTextNode(ifElement, LF, indent(indent));
         } else {
-            addTextNode(parent, LF, INDENT, INDENT);
+            addTextNode(parent, LF, indent(indent));
             if (!connStack.isEmpty()) {
                 addTextNode(parent, connStack.pop(), BLANK);
             }
-            translator.translate(nameEntry, tagName -> addElement(parent, tagName), texts -> addTextNode(parent, texts), isSingleParam, 2);
+            translator.translate(nameEntry, tagName -> addElement(parent, tagName), texts -> addTextNode(parent, texts), isSingleParam, indent);
         }
     }
 
+    private SelectiveNameEntry findNameEntry(Variable variable, Map<String, SelectiveNameEntry> nameMap) {
+        SelectiveNameEntry nameEntry = nameMap.get(StringUtils.upperCamelToLowerCamel(variable.getLexeme().getValue()));
+        if (nameEntry == null) {
+            if (nameMap.size() == 1) {
+                // 采用降级策略，使用该策略必须确保在之前的代码中设置了parameterType
+                nameEntry = nameMap.entrySet().iterator().next().getValue();
+            } else {
+                throw new TranslateException("Can not found name entry %s", variable.getLexeme().getValue());
+            }
+        }
+        return nameEntry;
+    }
+
     private void translateOrderBy(Element parent, OrderBy orderBy) {
         addTextNode(parent, "order by", BLANK);
         doTranslateOrderBy(parent, orderBy.getChild(0));
@@ -702,7 +1635,54 @@ public class Sql92Translator extends Translator {
 
     }
 
-    protected void postProcessInsert(Insert insert, Element insertElement) {
+    /**
+     * 检查delete、update语句是否支持order by与limit子句。
+     *
+     * @return
+     */
+    protected boolean isWriteLimitSupported() {
+        return false;
+    }
+
+    /**
+     * 获取在分页结果中附带总数的表达式，不支持时返回null。
+     *
+     * @return
+     */
+    protected String getTotalExpression() {
+        return null;
+    }
+
+    /**
+     * 获取流式读取时每次从驱动拉取的行数。
+     *
+     * @return
+     */
+    protected int getStreamingFetchSize() {
+        return 1000;
+    }
+
+    /**
+     * 检查find、page语句是否为锁定读。
+     *
+     * @param lexeme
+     * @return
+     */
+    protected boolean isLockingRead(Token lexeme) {
+        return false;
+    }
+
+    /**
+     * 获取find、page语句没有指定OrderBy时使用的排序字段，不需要排序时返回null。
+     *
+     * @param node find或page节点
+     * @return
+     */
+    protected String getDefaultOrderBy(ASTNode node) {
+        return null;
+    }
+
+    protected void postProcessInsert(Insert insert, Param param, Element insertElement) {
         // subclass extension point
     }
 
@@ -722,6 +1702,10 @@ public class Sql92Translator extends Translator {
         // subclass extension point
     }
 
+    protected void postProcessExists(Exists exists, Element existsElement) {
+        // subclass extension point
+    }
+
     protected void postProcessPage(Page page, Element pageElement) {
         // subclass extension point
     }
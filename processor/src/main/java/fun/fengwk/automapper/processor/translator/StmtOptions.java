@@ -0,0 +1,64 @@
+package fun.fengwk.automapper.processor.translator;
+
+/**
+ * 语句选项，对应mybatis语句上的fetchSize、timeout、useCache、flushCache与statementType属性，为null的选项不会生成。
+ *
+ * @author fengwk
+ */
+public class StmtOptions {
+
+    public static final StmtOptions EMPTY = new StmtOptions(null, null, null, null, null);
+
+    /**
+     * 驱动每次拉取的行数，仅作用于select语句。
+     */
+    private final Integer fetchSize;
+
+    /**
+     * 等待数据库返回结果的秒数。
+     */
+    private final Integer timeout;
+
+    /**
+     * 是否使用二级缓存，仅作用于select语句。
+     */
+    private final Boolean useCache;
+
+    /**
+     * 是否清空缓存。
+     */
+    private final Boolean flushCache;
+
+    /**
+     * 语句类型。
+     */
+    private final String statementType;
+
+    public StmtOptions(Integer fetchSize, Integer timeout, Boolean useCache, Boolean flushCache, String statementType) {
+        this.fetchSize = fetchSize;
+        this.timeout = timeout;
+        this.useCache = useCache;
+        this.flushCache = flushCache;
+        this.statementType = statementType;
+    }
+
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    public Boolean getUseCache() {
+        return useCache;
+    }
+
+    public Boolean getFlushCache() {
+        return flushCache;
+    }
+
+    public String getStatementType() {
+        return statementType;
+    }
+}
@@ -9,20 +9,36 @@ import java.io.InputStream;
  */
 public class TranslateContext {
 
+    public static final int DEFAULT_SINGLE_RESULT_LIMIT = 2;
+
     private final String namespace;
     private final String tableName;
     private final NamingConverter fieldNamingConverter;
     private final InputStream input;
+    private final int singleResultLimit;
+    private final StmtOptions defaultStmtOptions;
 
     public TranslateContext(String namespace, String tableName, NamingConverter fieldNamingConverter) {
         this(namespace, tableName, fieldNamingConverter, null);
     }
 
     public TranslateContext(String namespace, String tableName, NamingConverter fieldNamingConverter, InputStream input) {
+        this(namespace, tableName, fieldNamingConverter, input, DEFAULT_SINGLE_RESULT_LIMIT);
+    }
+
+    public TranslateContext(String namespace, String tableName, NamingConverter fieldNamingConverter, InputStream input,
+                            int singleResultLimit) {
+        this(namespace, tableName, fieldNamingConverter, input, singleResultLimit, null);
+    }
+
+    public TranslateContext(String namespace, String tableName, NamingConverter fieldNamingConverter, InputStream input,
+                            int singleResultLimit, StmtOptions defaultStmtOptions) {
         this.namespace = namespace;
         this.tableName = tableName;
         this.fieldNamingConverter = fieldNamingConverter;
         this.input = input;
+        this.singleResultLimit = singleResultLimit;
+        this.defaultStmtOptions = defaultStmtOptions != null ? defaultStmtOptions : StmtOptions.EMPTY;
     }
 
     public String getNamespace() {
@@ -40,4 +56,12 @@ public class TranslateContext {
     public InputStream getInput() {
         return input;
     }
+
+    public int getSingleResultLimit() {
+        return singleResultLimit;
+    }
+
+    public StmtOptions getDefaultStmtOptions() {
+        return defaultStmtOptions;
+    }
 }
@@ -7,7 +7,11 @@ import fun.fengwk.automapper.processor.parser.ParseException;
 import fun.fengwk.automapper.processor.parser.Parser;
 import fun.fengwk.automapper.processor.parser.TokenIterator;
 import fun.fengwk.automapper.processor.parser.ast.ASTNode;
+import fun.fengwk.automapper.processor.parser.ast.Diff;
+import fun.fengwk.automapper.processor.parser.ast.Fields;
 import fun.fengwk.automapper.processor.parser.ast.Selective;
+import fun.fengwk.automapper.processor.parser.ast.Top;
+import fun.fengwk.automapper.processor.parser.ast.UpTo;
 import fun.fengwk.automapper.processor.util.LocalEntityResolver;
 import org.w3c.dom.Comment;
 import org.w3c.dom.Document;
@@ -35,6 +39,7 @@ public abstract class Translator {
 
     protected static final String OFFSET = "offset";
     protected static final String LIMIT = "limit";
+    protected static final String AFTER = "after";
 
     protected static final String BLANK = " ";
     protected static final String INDENT = "    ";
@@ -45,11 +50,14 @@ public abstract class Translator {
     protected static final String TAG_DELETE = "delete";
     protected static final String TAG_UPDATE = "update";
     protected static final String TAG_SELECT = "select";
+    protected static final String TAG_RESULT_MAP = "resultMap";
 
     protected final String tableName;
     protected final Document document;
     protected final Element mapperElement;
     protected final NamingConverter fieldNamingConverter;
+    protected final int singleResultLimit;
+    protected final StmtOptions defaultStmtOptions;
 
     private Set<String> existingIdsCache;
 
@@ -65,6 +73,8 @@ public abstract class Translator {
         }
         this.mapperElement = getMapperElement(translateContext.getNamespace());
         this.fieldNamingConverter = translateContext.getFieldNamingConverter();
+        this.singleResultLimit = translateContext.getSingleResultLimit();
+        this.defaultStmtOptions = translateContext.getDefaultStmtOptions();
     }
 
     /**
@@ -89,9 +99,56 @@ public abstract class Translator {
 
         ASTNode node = parse(methodInfo.getMethodName());
         doTranslate(node, methodInfo);
+        translateStmtOptions(methodInfo);
         return true;
     }
 
+    // 方法上明确设置的选项覆盖翻译时生成的属性，全局选项只在属性不存在时补充
+    private void translateStmtOptions(MethodInfo methodInfo) {
+        Element stmtElement = findStmtElement(methodInfo.getMethodName());
+        if (stmtElement == null) {
+            return;
+        }
+
+        setStmtOptions(stmtElement, methodInfo.getStmtOptions(), true);
+        setStmtOptions(stmtElement, defaultStmtOptions, false);
+    }
+
+    private void setStmtOptions(Element stmtElement, StmtOptions stmtOptions, boolean override) {
+        // fetchSize与useCache只能用于select语句
+        if (TAG_SELECT.equals(stmtElement.getTagName())) {
+            setAttribute(stmtElement, "fetchSize", stmtOptions.getFetchSize(), override);
+            setAttribute(stmtElement, "useCache", stmtOptions.getUseCache(), override);
+        }
+        setAttribute(stmtElement, "timeout", stmtOptions.getTimeout(), override);
+        setAttribute(stmtElement, "flushCache", stmtOptions.getFlushCache(), override);
+        setAttribute(stmtElement, "statementType", stmtOptions.getStatementType(), override);
+    }
+
+    private void setAttribute(Element element, String name, Object value, boolean override) {
+        if (value != null && (override || !element.hasAttribute(name))) {
+            element.setAttribute(name, String.valueOf(value));
+        }
+    }
+
+    private Element findStmtElement(String id) {
+        NodeList childNodes = mapperElement.getChildNodes();
+        for (int i = 0; i < childNodes.getLength(); i++) {
+            Node node = childNodes.item(i);
+            if (node instanceof Element && isStmtTag(node.getNodeName()) && id.equals(((Element) node).getAttribute("id"))) {
+                return (Element) node;
+            }
+        }
+        return null;
+    }
+
+    private boolean isStmtTag(String tagName) {
+        return TAG_INSERT.equals(tagName)
+                || TAG_DELETE.equals(tagName)
+                || TAG_UPDATE.equals(tagName)
+                || TAG_SELECT.equals(tagName);
+    }
+
     /**
      * 将抽象预发树翻译为 mybatis xml，无法翻译的情况将抛出{@link TranslateException}。
      *
@@ -163,18 +220,49 @@ public abstract class Translator {
         return false;
     }
 
+    protected boolean isDiff(ASTNode node) {
+        for (int i = 0; i < node.childrenSize(); i++) {
+            if (node.getChild(i) instanceof Diff) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isUpTo(ASTNode node) {
+        for (int i = 0; i < node.childrenSize(); i++) {
+            if (node.getChild(i) instanceof UpTo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected Fields findFields(ASTNode node) {
+        for (int i = 0; i < node.childrenSize(); i++) {
+            if (node.getChild(i) instanceof Fields) {
+                return (Fields) node.getChild(i);
+            }
+        }
+        return null;
+    }
+
+    protected Top findTop(ASTNode node) {
+        for (int i = 0; i < node.childrenSize(); i++) {
+            if (node.getChild(i) instanceof Top) {
+                return (Top) node.getChild(i);
+            }
+        }
+        return null;
+    }
+
     protected boolean existsStmtElement(String id) {
         if (existingIdsCache == null) {
             existingIdsCache = new HashSet<>();
             NodeList childNodes = mapperElement.getChildNodes();
             for (int i = 0; i < childNodes.getLength(); i++) {
                 Node node = childNodes.item(i);
-                String tagName;
-                if (node != null && (
-                        TAG_INSERT.equals(tagName = node.getNodeName())
-                                || TAG_DELETE.equals(tagName)
-                                || TAG_UPDATE.equals(tagName)
-                                || TAG_SELECT.equals(tagName))) {
+                if (node != null && isStmtTag(node.getNodeName())) {
                     NamedNodeMap attributes = node.getAttributes();
                     Node idAttr = attributes.getNamedItem("id");
                     if (idAttr != null) {
@@ -208,7 +296,9 @@ public abstract class Translator {
 
     protected StmtElement addUpdateElement(String id, String parameterType) {
         StmtElement updateStmtElement = addStmtElement(TAG_UPDATE, id);
-        updateStmtElement.getElement().setAttribute("parameterType", parameterType);
+        if (parameterType != null) {
+            updateStmtElement.getElement().setAttribute("parameterType", parameterType);
+        }
         return updateStmtElement;
     }
 
@@ -217,10 +307,18 @@ public abstract class Translator {
         if (parameterType != null) {
             selectStmtElement.getElement().setAttribute("parameterType", parameterType);
         }
-        selectStmtElement.getElement().setAttribute("resultType", resultType);
+        if (resultType != null) {
+            selectStmtElement.getElement().setAttribute("resultType", resultType);
+        }
         return selectStmtElement;
     }
 
+    protected StmtElement addResultMapElement(String id, String type) {
+        StmtElement resultMapStmtElement = addStmtElement(TAG_RESULT_MAP, id);
+        resultMapStmtElement.getElement().setAttribute("type", type);
+        return resultMapStmtElement;
+    }
+
     protected void addTextNode(Element parent, CharSequence... texts) {
         StringBuilder sb = new StringBuilder();
         for (CharSequence cs : texts) {
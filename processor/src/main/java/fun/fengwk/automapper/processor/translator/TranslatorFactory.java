@@ -2,6 +2,7 @@ package fun.fengwk.automapper.processor.translator;
 
 import fun.fengwk.automapper.annotation.DBType;
 import fun.fengwk.automapper.processor.AutoMapperException;
+import fun.fengwk.automapper.processor.translator.mysql.MySql8Translator;
 import fun.fengwk.automapper.processor.translator.mysql.MySqlTranslator;
 
 import java.util.HashMap;
@@ -19,6 +20,7 @@ public class TranslatorFactory {
         Map<DBType, Function<TranslateContext, Translator>> registry = new HashMap<>();
         registry.put(DBType.SQL92, Sql92Translator::new);
         registry.put(DBType.MYSQL, MySqlTranslator::new);
+        registry.put(DBType.MYSQL8, MySql8Translator::new);
         REGISTRY = registry;
     }
 
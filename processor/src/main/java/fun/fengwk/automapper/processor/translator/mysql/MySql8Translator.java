@@ -0,0 +1,62 @@
+package fun.fengwk.automapper.processor.translator.mysql;
+
+import fun.fengwk.automapper.processor.lexer.Lexer;
+import fun.fengwk.automapper.processor.translator.TranslateContext;
+
+/**
+ * @author fengwk
+ */
+public class MySql8Translator extends MySqlTranslator {
+
+    private static final String UPSERT_ALIAS = "new";
+
+    /* mysql8语法衍生 */
+    private static final String DERIVED_FIND_FOR_UPDATE_SKIP_LOCKED = "findForUpdateSkipLocked";
+    private static final String DERIVED_FIND_FOR_UPDATE_NOWAIT = "findForUpdateNowait";
+    private static final String DERIVED_PAGE_FOR_UPDATE_SKIP_LOCKED = "pageForUpdateSkipLocked";
+    private static final String DERIVED_PAGE_FOR_UPDATE_NOWAIT = "pageForUpdateNowait";
+
+    public MySql8Translator(TranslateContext translateContext) {
+        super(translateContext);
+    }
+
+    @Override
+    protected Lexer.Builder newLexerBuilder() {
+        return super.newLexerBuilder()
+                .deriveFind(DERIVED_FIND_FOR_UPDATE_SKIP_LOCKED)
+                .deriveFind(DERIVED_FIND_FOR_UPDATE_NOWAIT)
+                .derivePage(DERIVED_PAGE_FOR_UPDATE_SKIP_LOCKED)
+                .derivePage(DERIVED_PAGE_FOR_UPDATE_NOWAIT);
+    }
+
+    @Override
+    protected String getLockingClause(String derivedValue) {
+        // 跳过已被锁定的行或在无法立即加锁时报错，避免并发消费者相互等待
+        if (DERIVED_FIND_FOR_UPDATE_SKIP_LOCKED.equals(derivedValue)
+                || DERIVED_PAGE_FOR_UPDATE_SKIP_LOCKED.equals(derivedValue)) {
+            return "for update skip locked";
+        } else if (DERIVED_FIND_FOR_UPDATE_NOWAIT.equals(derivedValue)
+                || DERIVED_PAGE_FOR_UPDATE_NOWAIT.equals(derivedValue)) {
+            return "for update nowait";
+        }
+        return super.getLockingClause(derivedValue);
+    }
+
+    @Override
+    protected String getTotalExpression() {
+        // 窗口函数在limit之前计算，因此能够得到满足条件的总数
+        return "count(*) over()";
+    }
+
+    @Override
+    protected String getUpsertAlias() {
+        // 插入行别名自8.0.19起可用，8.0.20开始values()函数被废弃
+        return UPSERT_ALIAS;
+    }
+
+    @Override
+    protected String getUpsertValue(String fieldName) {
+        return UPSERT_ALIAS + "." + fieldName;
+    }
+
+}
@@ -4,14 +4,27 @@ import fun.fengwk.automapper.processor.lexer.DerivedToken;
 import fun.fengwk.automapper.processor.lexer.Keyword;
 import fun.fengwk.automapper.processor.lexer.Lexer;
 import fun.fengwk.automapper.processor.lexer.Token;
+import fun.fengwk.automapper.processor.parser.ast.ASTNode;
+import fun.fengwk.automapper.processor.parser.ast.By;
+import fun.fengwk.automapper.processor.parser.ast.ByOp;
+import fun.fengwk.automapper.processor.parser.ast.ConnectOp;
 import fun.fengwk.automapper.processor.parser.ast.Find;
 import fun.fengwk.automapper.processor.parser.ast.Insert;
+import fun.fengwk.automapper.processor.parser.ast.Page;
+import fun.fengwk.automapper.processor.translator.BeanField;
+import fun.fengwk.automapper.processor.translator.Param;
 import fun.fengwk.automapper.processor.translator.Sql92Translator;
 import fun.fengwk.automapper.processor.translator.TranslateContext;
+import fun.fengwk.automapper.processor.translator.TranslateException;
+import fun.fengwk.automapper.processor.util.StringUtils;
 import org.w3c.dom.Element;
+import org.w3c.dom.Text;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * @author fengwk
@@ -21,22 +34,25 @@ public class MySqlTranslator extends Sql92Translator {
     /* mysql语法衍生 */
     private static final String DERIVED_INSERT_IGNORE = "insertIgnore";
     private static final String DERIVED_REPLACE = "replace";
+    private static final String DERIVED_UPSERT = "upsert";
 
     private static final String DERIVED_FIND_LOCK_IN_SHARE_MODE = "findLockInShareMode";
     private static final String DERIVED_FIND_FOR_UPDATE = "findForUpdate";
+    private static final String DERIVED_PAGE_FOR_UPDATE = "pageForUpdate";
 
     public MySqlTranslator(TranslateContext translateContext) {
         super(translateContext);
     }
 
     @Override
-    protected Lexer newLexer() {
-        return new Lexer.Builder()
+    protected Lexer.Builder newLexerBuilder() {
+        return super.newLexerBuilder()
                 .deriveInsert(DERIVED_INSERT_IGNORE)
                 .deriveInsert(DERIVED_REPLACE)
+                .deriveInsert(DERIVED_UPSERT)
                 .deriveFind(DERIVED_FIND_LOCK_IN_SHARE_MODE)
                 .deriveFind(DERIVED_FIND_FOR_UPDATE)
-                .build();
+                .derivePage(DERIVED_PAGE_FOR_UPDATE);
     }
 
     @Override
@@ -49,7 +65,73 @@ public class MySqlTranslator extends Sql92Translator {
     }
 
     @Override
-    protected void postProcessInsert(Insert insert, Element insertElement) {
+    protected void translateInsertAllSelective(Insert insert, String methodName, Param param) {
+        if (!param.isIterable()) {
+            throw new TranslateException("%s should have iterable param", methodName);
+        }
+        if (!param.isJavaBean()) {
+            throw new TranslateException("%s should have java bean param", methodName);
+        }
+
+        /*
+         * 使用default填充空值，使整个批次保持为一条多行insert语句，从而无需allowMultiQueries并能返回每一行的自增键
+         *
+         * <insert id="insertAllSelective" useGeneratedKeys="true" keyProperty="id">
+         *     insert into {table} (f1, f2, f3...) values
+         *     <foreach collection="collection" item="item" separator=",">
+         *         (
+         *             <choose>
+         *                 <when test="item.jf1 != null">#{item.jf1}</when>
+         *                 <otherwise>default</otherwise>
+         *             </choose>,
+         *             ...
+         *         )
+         *     </foreach>
+         * </insert>
+         */
+        StmtElement insertStmtElement = addInsertElement(methodName, param.getType(), param.findUseGeneratedKeysField());
+        Element insertElement = insertStmtElement.getElement();
+
+        List<BeanField> beanFields = param.getBeanFields().stream()
+                .filter(bf -> !bf.isUseGeneratedKeys())
+                .collect(Collectors.toList());
+
+        addTextNode(insertElement, LF, INDENT, "insert into ", tableName, " (",
+                beanFields.stream().map(BeanField::getFieldName).collect(Collectors.joining(", ")),
+                ") values", LF, INDENT);
+
+        Element foreachElement = addElement(insertElement, "foreach");
+        foreachElement.setAttribute("collection", "collection");
+        foreachElement.setAttribute("item", "item");
+        foreachElement.setAttribute("separator", ",");
+        addTextNode(foreachElement, LF, indent(2), "(");
+        for (int i = 0; i < beanFields.size(); i++) {
+            BeanField bf = beanFields.get(i);
+            addTextNode(foreachElement, LF, indent(3));
+            Element chooseElement = addElement(foreachElement, "choose");
+            addTextNode(chooseElement, LF, indent(4));
+            Element whenElement = addElement(chooseElement, "when");
+            whenElement.setAttribute("test", String.format("item.%s != null", bf.getName()));
+            addTextNode(whenElement, "#{item.", bf.getName(), "}");
+            addTextNode(chooseElement, LF, indent(4));
+            Element otherwiseElement = addElement(chooseElement, "otherwise");
+            addTextNode(otherwiseElement, "default");
+            addTextNode(chooseElement, LF, indent(3));
+            if (i < beanFields.size() - 1) {
+                addTextNode(foreachElement, ",");
+            }
+        }
+        addTextNode(foreachElement, LF, indent(2), ")", LF, INDENT);
+        addTextNode(insertElement, LF);
+
+        // for subclass
+        postProcessInsert(insert, param, insertElement);
+
+        insertStmtElement.append();
+    }
+
+    @Override
+    protected void postProcessInsert(Insert insert, Param param, Element insertElement) {
         Token lexeme = insert.getLexeme();
         if (lexeme instanceof DerivedToken) {
             String derivedValue = ((DerivedToken) lexeme).getDerivedValue();
@@ -59,21 +141,159 @@ public class MySqlTranslator extends Sql92Translator {
             } else if (Objects.equals(derivedValue, DERIVED_REPLACE)) {
                 insertElement.getFirstChild().setTextContent(
                         insertElement.getFirstChild().getTextContent().replace("insert into", "replace into"));
+            } else if (Objects.equals(derivedValue, DERIVED_UPSERT)) {
+                translateOnDuplicateKeyUpdate(insert, param, insertElement);
+            }
+        }
+    }
+
+    private void translateOnDuplicateKeyUpdate(Insert insert, Param param, Element insertElement) {
+        boolean isAll = insert.childrenSize() > 0 && insert.getChild(0).getLexeme().isKeyword(Keyword.ALL);
+        boolean isSelective = isSelective(insert);
+        if (isAll && isSelective) {
+            // 批量插入的空值已使用default填充，无法再区分哪些字段需要更新
+            throw new TranslateException("%s is not supported, use upsertAll instead", insertElement.getAttribute("id"));
+        }
+
+        // 冲突时更新除自增键外所有插入的字段，可以使用@IncludeField、@ExcludeField调整，使用@UpsertExcludeField只从更新列表中排除
+        List<BeanField> beanFields = param.getBeanFields().stream()
+                .filter(bf -> !bf.isUseGeneratedKeys() && !bf.isUpsertExcluded())
+                .collect(Collectors.toList());
+        if (beanFields.isEmpty()) {
+            throw new TranslateException("%s can not found update field in %s", insertElement.getAttribute("id"), param.getType());
+        }
+
+        if (!(insertElement.getLastChild() instanceof Text)) {
+            addTextNode(insertElement, LF);
+        }
+        String alias = getUpsertAlias();
+        if (alias != null) {
+            addTextNode(insertElement, INDENT, "as ", alias, LF);
+        }
+
+        if (isSelective) {
+            /*
+             * <trim prefix="on duplicate key update" suffixOverrides=",">
+             *     <if test="jf1 != null">f1=values(f1),</if>
+             * </trim>
+             */
+            addTextNode(insertElement, INDENT);
+            Element trimElement = addElement(insertElement, "trim");
+            trimElement.setAttribute("prefix", "on duplicate key update");
+            trimElement.setAttribute("suffixOverrides", ",");
+            for (BeanField bf : beanFields) {
+                addTextNode(trimElement, LF, INDENT, INDENT);
+                Element ifElement = addElement(trimElement, "if");
+                ifElement.setAttribute("test", String.format("%s != null", bf.getName()));
+                addTextNode(ifElement, bf.getFieldName(), "=", getUpsertValue(bf.getFieldName()), ",");
             }
+            addTextNode(trimElement, LF, INDENT);
+            addTextNode(insertElement, LF);
+        } else {
+            addTextNode(insertElement, INDENT, "on duplicate key update ",
+                    beanFields.stream()
+                            .map(bf -> bf.getFieldName() + "=" + getUpsertValue(bf.getFieldName()))
+                            .collect(Collectors.joining(", ")),
+                    LF);
         }
     }
 
+    /**
+     * 获取upsert语句中插入行的别名，不使用别名时返回null。
+     *
+     * @return
+     */
+    protected String getUpsertAlias() {
+        return null;
+    }
+
+    /**
+     * 获取upsert语句中冲突时引用插入值的表达式。
+     *
+     * @param fieldName
+     * @return
+     */
+    protected String getUpsertValue(String fieldName) {
+        return String.format("values(%s)", fieldName);
+    }
+
+    @Override
+    protected boolean isWriteLimitSupported() {
+        return true;
+    }
+
+    // MySQL驱动只有在fetchSize为Integer.MIN_VALUE时才会逐行读取结果，否则会将整个结果集加载到内存中
+    @Override
+    protected int getStreamingFetchSize() {
+        return Integer.MIN_VALUE;
+    }
+
     @Override
     protected void postProcessFind(Find find, Element selectElement) {
-        Token lexeme = find.getLexeme();
+        translateLockingRead(find.getLexeme(), selectElement);
+    }
+
+    // 不同事务以不同顺序锁定In条件中的同一批行时会发生死锁，没有显式排序时按In条件字段排序以保证加锁顺序一致
+    @Override
+    protected String getDefaultOrderBy(ASTNode node) {
+        if (!isLockingRead(node.getLexeme())) {
+            return null;
+        }
+        if (node.childrenSize() == 0 || !(node.getChild(0) instanceof By)) {
+            return null;
+        }
+
+        List<String> inFieldNames = collectInFieldNames(node.getChild(0).getChild(0), new ArrayList<>());
+        return inFieldNames.isEmpty() ? null : String.join(", ", inFieldNames);
+    }
+
+    private List<String> collectInFieldNames(ASTNode node, List<String> collector) {
+        if (node instanceof ConnectOp) {
+            collectInFieldNames(node.getChild(0), collector);
+            collectInFieldNames(node.getChild(1), collector);
+        } else if (node instanceof ByOp && node.getLexeme().isKeyword(Keyword.IN)) {
+            String fieldName = fieldNamingConverter.convert(
+                    StringUtils.upperCamelToLowerCamel(node.getChild(0).getLexeme().getValue()));
+            if (!collector.contains(fieldName)) {
+                collector.add(fieldName);
+            }
+        }
+        return collector;
+    }
+
+    @Override
+    protected void postProcessPage(Page page, Element pageElement) {
+        translateLockingRead(page.getLexeme(), pageElement);
+    }
+
+    @Override
+    protected boolean isLockingRead(Token lexeme) {
+        return lexeme instanceof DerivedToken && getLockingClause(((DerivedToken) lexeme).getDerivedValue()) != null;
+    }
+
+    private void translateLockingRead(Token lexeme, Element selectElement) {
         if (lexeme instanceof DerivedToken) {
-            String derivedValue = ((DerivedToken) lexeme).getDerivedValue();
-            if (Objects.equals(derivedValue, DERIVED_FIND_LOCK_IN_SHARE_MODE)) {
-                addTextNode(selectElement, INDENT, "lock in share mode", LF);
-            } else if (Objects.equals(derivedValue, DERIVED_FIND_FOR_UPDATE)) {
-                addTextNode(selectElement, INDENT, "for update", LF);
+            String lockingClause = getLockingClause(((DerivedToken) lexeme).getDerivedValue());
+            if (lockingClause != null) {
+                addTextNode(selectElement, INDENT, lockingClause, LF);
             }
         }
     }
 
+    /**
+     * 获取衍生的find、page语法对应的锁定读子句，不是锁定读时返回null。
+     *
+     * @param derivedValue
+     * @return
+     */
+    protected String getLockingClause(String derivedValue) {
+        if (Objects.equals(derivedValue, DERIVED_FIND_LOCK_IN_SHARE_MODE)) {
+            return "lock in share mode";
+        } else if (Objects.equals(derivedValue, DERIVED_FIND_FOR_UPDATE)
+                || Objects.equals(derivedValue, DERIVED_PAGE_FOR_UPDATE)) {
+            return "for update";
+        }
+        return null;
+    }
+
 }
@@ -5,7 +5,20 @@ import com.google.testing.compile.Compiler;
 import com.google.testing.compile.JavaFileObjects;
 import org.junit.Test;
 
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.testing.compile.CompilationSubject.assertThat;
 
@@ -23,7 +36,168 @@ public class AutoMapperProcessorTest {
                         JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoDO.java"),
                         JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoMapper.java")
                 );
-        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "fun/fengwk/automapper/processor/demo/DemoMapper.xml");
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "fun/fengwk/automapper/processor/demo/DemoMapper.xml")
+                .contentsAsUtf8String().contains("<select id=\"findByNameStartingWith\" parameterType=\"java.lang.String\" resultType=\"fun.fengwk.automapper.processor.demo.DemoDO\">\n    select id\n");
+        assertThat(compilation).generatedSourceFile("fun.fengwk.automapper.processor.demo.DemoMapperBatches")
+                .contentsAsUtf8String().contains("sorted.sort(java.util.Comparator.comparing(fun.fengwk.automapper.processor.demo.DemoDO::getId");
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        Compilation compilation = Compiler
+                .javac()
+                .withProcessors(new AutoMapperProcessor())
+                .compile(
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/BaseDO.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoDO.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoBatchMapper.java")
+                );
+        assertThat(compilation).succeeded();
+
+        ClassLoader classLoader = new CompilationClassLoader(compilation);
+        Class<?> demoClass = classLoader.loadClass("fun.fengwk.automapper.processor.demo.DemoDO");
+        Class<?> mapperClass = classLoader.loadClass("fun.fengwk.automapper.processor.demo.DemoBatchMapper");
+        Class<?> batchesClass = classLoader.loadClass("fun.fengwk.automapper.processor.demo.DemoBatchMapperBatches");
+
+        // 每次调用记录批次内容，并以批次大小作为影响行数
+        List<List<?>> chunks = new ArrayList<>();
+        Object mapper = Proxy.newProxyInstance(classLoader, new Class<?>[] { mapperClass }, (proxy, method, args) -> {
+            List<?> chunk = new ArrayList<>((List<?>) args[0]);
+            chunks.add(chunk);
+            return method.getReturnType() == long.class ? (Object) (long) chunk.size() : (Object) chunk.size();
+        });
+        Object batches = batchesClass.getConstructor(mapperClass).newInstance(mapper);
+        Method insertAll = batchesClass.getMethod("insertAll", Iterable.class);
+        Method updateAllById = batchesClass.getMethod("updateAllById", Iterable.class);
+
+        for (int n : new int[] { 0, 1, 3, 7 }) {
+            List<Object> records = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                records.add(demoClass.newInstance());
+            }
+
+            chunks.clear();
+            assert insertAll.invoke(batches, records).equals(n);
+            assert chunks.size() == (n + 2) / 3;
+            List<Object> flattened = new ArrayList<>();
+            for (List<?> chunk : chunks) {
+                assert !chunk.isEmpty() && chunk.size() <= 3;
+                flattened.addAll(chunk);
+            }
+            assert flattened.equals(records);
+
+            chunks.clear();
+            assert updateAllById.invoke(batches, records).equals((long) n);
+            assert chunks.size() == (n + 2) / 3;
+        }
+    }
+
+    @Test
+    public void testPurgeBatches() throws Exception {
+        Compilation compilation = Compiler
+                .javac()
+                .withProcessors(new AutoMapperProcessor())
+                .compile(
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoPurgeMapper.java")
+                );
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("fun.fengwk.automapper.processor.demo.DemoPurgeMapperBatches")
+                .contentsAsUtf8String().contains("long chunk = mapper.deleteByNameOrderById(name, 2);\n"
+                        + "            affected += chunk;\n"
+                        + "            if (chunk < 2) {\n");
+
+        ClassLoader classLoader = new CompilationClassLoader(compilation);
+        Class<?> mapperClass = classLoader.loadClass("fun.fengwk.automapper.processor.demo.DemoPurgeMapper");
+        Class<?> batchesClass = classLoader.loadClass("fun.fengwk.automapper.processor.demo.DemoPurgeMapperBatches");
+
+        // 没有使用@BatchSize的delete方法不生成清理方法
+        for (Method method : batchesClass.getMethods()) {
+            assert !method.getName().equals("deleteByIdOrderById");
+        }
+
+        // 依次返回预设的影响行数，并记录每次调用的limit
+        Deque<Integer> results = new ArrayDeque<>();
+        List<Object> limits = new ArrayList<>();
+        Object mapper = Proxy.newProxyInstance(classLoader, new Class<?>[] { mapperClass }, (proxy, method, args) -> {
+            limits.add(args[1]);
+            return results.poll();
+        });
+        Object batches = batchesClass.getConstructor(mapperClass).newInstance(mapper);
+        Method purge = batchesClass.getMethod("deleteByNameOrderById", String.class, long.class);
+
+        // 某一批不足limit行时结束
+        results.addAll(Arrays.asList(2, 2, 1, 2));
+        limits.clear();
+        assert purge.invoke(batches, "a", 0L).equals(5L);
+        assert limits.equals(Arrays.asList(2, 2, 2));
+
+        // 某一批没有删除任何行时结束
+        results.clear();
+        results.addAll(Arrays.asList(2, 0, 2));
+        limits.clear();
+        assert purge.invoke(batches, "a", 0L).equals(2L);
+        assert limits.size() == 2;
+
+        // 每批之间暂停
+        results.clear();
+        results.addAll(Arrays.asList(2, 2, 1));
+        long start = System.nanoTime();
+        assert purge.invoke(batches, "a", 50L).equals(5L);
+        assert System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100);
+
+        // 暂停时被中断则保留中断标记并返回已删除的行数
+        results.clear();
+        results.addAll(Arrays.asList(2, 2, 1));
+        limits.clear();
+        Thread.currentThread().interrupt();
+        try {
+            assert purge.invoke(batches, "a", 10000L).equals(2L);
+            assert limits.size() == 1;
+        } finally {
+            assert Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testReservedPurgeBatches() {
+        Compilation compilation = Compiler
+                .javac()
+                .withProcessors(new AutoMapperProcessor())
+                .compile(
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/ReservedPurgeMapper.java")
+                );
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("deleteByNameOrderById's param name chunk is reserved by the batches helper");
+    }
+
+    @Test
+    public void testPageWrapper() {
+        Compilation compilation = Compiler
+                .javac()
+                .withProcessors(new AutoMapperProcessor())
+                .compile(
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/BaseDO.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoDO.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoPage.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoPageMapper.java")
+                );
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "fun/fengwk/automapper/processor/demo/DemoPageMapper.xml")
+                .contentsAsUtf8String().contains("<result column=\"total\" property=\"total\"/>\n    <collection ofType=\"fun.fengwk.automapper.processor.demo.DemoDO\" property=\"items\">");
+    }
+
+    @Test
+    public void testAmbiguousPageWrapper() {
+        Compilation compilation = Compiler
+                .javac()
+                .withProcessors(new AutoMapperProcessor())
+                .compile(
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/BaseDO.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/DemoDO.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/AmbiguousPage.java"),
+                        JavaFileObjects.forResource("fun/fengwk/automapper/processor/demo/AmbiguousPageMapper.java")
+                );
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("has ambiguous items fields items, records");
     }
 
     @Test
@@ -43,4 +217,44 @@ public class AutoMapperProcessorTest {
                 );
     }
 
+    /**
+     * 从编译结果中加载类，用于执行生成的源码。
+     */
+    private static class CompilationClassLoader extends ClassLoader {
+
+        private final Compilation compilation;
+
+        CompilationClassLoader(Compilation compilation) {
+            super(AutoMapperProcessorTest.class.getClassLoader());
+            this.compilation = compilation;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            String path = name.replace('.', '/') + ".class";
+            for (JavaFileObject file : compilation.generatedFiles()) {
+                if (file.getKind() == JavaFileObject.Kind.CLASS && file.toUri().getPath().endsWith(path)) {
+                    byte[] bytes = readAllBytes(file);
+                    return defineClass(name, bytes, 0, bytes.length);
+                }
+            }
+            throw new ClassNotFoundException(name);
+        }
+
+        private byte[] readAllBytes(JavaFileObject file) {
+            try (InputStream in = file.openInputStream()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buf = new byte[4096];
+                int len;
+                while ((len = in.read(buf)) != -1) {
+                    out.write(buf, 0, len);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
 }
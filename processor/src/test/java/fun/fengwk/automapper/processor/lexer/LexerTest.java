@@ -75,8 +75,8 @@ public class LexerTest {
         assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "delete", "delete"));
         assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "By"));
         assert tokens.get(2).equals(new Token(TokenType.VARIABLE, "Id"));
-        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "Or"));
-        assert tokens.get(4).equals(new Token(TokenType.VARIABLE, "derByName"));
+        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "OrderBy"));
+        assert tokens.get(4).equals(new Token(TokenType.VARIABLE, "Name"));
     }
 
     @Test
@@ -154,4 +154,173 @@ public class LexerTest {
         assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "All"));
     }
 
+    @Test
+    public void test18() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("updateAllByIdSelective");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "update", "update"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "All"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "Id"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "Selective"));
+    }
+
+    @Test
+    public void test19() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("updateStatusAndUpdatedAtByIdIn");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "update", "update"));
+        assert tokens.get(1).equals(new Token(TokenType.VARIABLE, "Status"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "And"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "UpdatedAt"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(5).equals(new Token(TokenType.VARIABLE, "Id"));
+        assert tokens.get(6).equals(new Token(TokenType.KEYWORD, "In"));
+    }
+
+    @Test
+    public void test20() {
+        Lexer lexer = new Lexer.Builder().deriveUpdate("decrement").build();
+        List<Token> tokens = lexer.analyse("decrementStockByIdAndStockGreaterThanEquals");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "update", "decrement"));
+        assert tokens.get(1).equals(new Token(TokenType.VARIABLE, "Stock"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "Id"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "And"));
+        assert tokens.get(5).equals(new Token(TokenType.VARIABLE, "Stock"));
+        assert tokens.get(6).equals(new Token(TokenType.KEYWORD, "GreaterThanEquals"));
+    }
+
+    @Test
+    public void test21() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("updateByIdDiff");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "update", "update"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(2).equals(new Token(TokenType.VARIABLE, "Id"));
+        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "Diff"));
+    }
+
+    @Test
+    public void test22() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("deleteByCreatedAtBeforeOrderById");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "delete", "delete"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(2).equals(new Token(TokenType.VARIABLE, "CreatedAt"));
+        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "Before"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "OrderBy"));
+        assert tokens.get(5).equals(new Token(TokenType.VARIABLE, "Id"));
+    }
+
+    @Test
+    public void test23() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("existsByUsernameAndAgeGreaterThan");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "exists", "exists"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(2).equals(new Token(TokenType.VARIABLE, "Username"));
+        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "And"));
+        assert tokens.get(4).equals(new Token(TokenType.VARIABLE, "Age"));
+        assert tokens.get(5).equals(new Token(TokenType.KEYWORD, "GreaterThan"));
+    }
+
+    @Test
+    public void test24() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("countByUserIdAndReadIsNullUpTo");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "count", "count"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(2).equals(new Token(TokenType.VARIABLE, "UserId"));
+        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "And"));
+        assert tokens.get(4).equals(new Token(TokenType.VARIABLE, "Read"));
+        assert tokens.get(5).equals(new Token(TokenType.KEYWORD, "IsNull"));
+        assert tokens.get(6).equals(new Token(TokenType.KEYWORD, "UpTo"));
+    }
+
+    @Test
+    public void test25() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("countAllUpTo");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "count", "count"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "All"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "UpTo"));
+    }
+
+    @Test
+    public void test26() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("findFirstByUsernameOrderByIdDesc");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "find", "find"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "First"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "Username"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "OrderBy"));
+        assert tokens.get(5).equals(new Token(TokenType.VARIABLE, "Id"));
+        assert tokens.get(6).equals(new Token(TokenType.KEYWORD, "Desc"));
+    }
+
+    @Test
+    public void test27() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("findTop10AllOrderById");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "find", "find"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "Top"));
+        assert tokens.get(2).equals(new Token(TokenType.VARIABLE, "10"));
+        assert tokens.get(3).equals(new Token(TokenType.KEYWORD, "All"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "OrderBy"));
+        assert tokens.get(5).equals(new Token(TokenType.VARIABLE, "Id"));
+    }
+
+    @Test
+    public void test28() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("findIdAndUsernameByStatusIn");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "find", "find"));
+        assert tokens.get(1).equals(new Token(TokenType.VARIABLE, "Id"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "And"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "Username"));
+        assert tokens.get(4).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(5).equals(new Token(TokenType.VARIABLE, "Status"));
+        assert tokens.get(6).equals(new Token(TokenType.KEYWORD, "In"));
+    }
+
+    @Test
+    public void test29() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("findAllowanceById");
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "find", "find"));
+        assert tokens.get(1).equals(new Token(TokenType.VARIABLE, "Allowance"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "Id"));
+    }
+
+    @Test(expected = LexicalException.class)
+    public void test30() {
+        Lexer lexer = new Lexer.Builder().build();
+        lexer.analyse("decrementStockById");
+    }
+
+    @Test
+    public void test31() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("findFirstNameById");
+        assert tokens.size() == 4;
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "find", "find"));
+        assert tokens.get(1).equals(new Token(TokenType.VARIABLE, "FirstName"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "Id"));
+    }
+
+    @Test
+    public void test32() {
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse("findFirstByFirstName");
+        assert tokens.size() == 4;
+        assert tokens.get(0).equals(new DerivedToken(TokenType.KEYWORD, "find", "find"));
+        assert tokens.get(1).equals(new Token(TokenType.KEYWORD, "First"));
+        assert tokens.get(2).equals(new Token(TokenType.KEYWORD, "By"));
+        assert tokens.get(3).equals(new Token(TokenType.VARIABLE, "FirstName"));
+    }
+
 }
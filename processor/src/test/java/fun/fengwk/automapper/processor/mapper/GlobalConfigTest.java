@@ -0,0 +1,53 @@
+package fun.fengwk.automapper.processor.mapper;
+
+import fun.fengwk.automapper.processor.AutoMapperException;
+import fun.fengwk.automapper.processor.translator.StmtOptions;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author fengwk
+ */
+public class GlobalConfigTest {
+
+    @Test
+    public void testStmtOptions() throws IOException {
+        GlobalConfig globalConfig = load("fun.fengwk.automapper.annotation.StatementOptions.timeout=3\n"
+                + "fun.fengwk.automapper.annotation.StatementOptions.useCache=false\n"
+                + "fun.fengwk.automapper.annotation.StatementOptions.statementType=PREPARED\n");
+        StmtOptions stmtOptions = globalConfig.getStmtOptions();
+        assert stmtOptions.getTimeout() == 3;
+        assert !stmtOptions.getUseCache();
+        assert stmtOptions.getStatementType().equals("PREPARED");
+    }
+
+    @Test(expected = AutoMapperException.class)
+    public void testInvalidInteger() throws IOException {
+        load("fun.fengwk.automapper.annotation.StatementOptions.timeout=3O").getStmtOptions();
+    }
+
+    @Test(expected = AutoMapperException.class)
+    public void testInvalidBoolean() throws IOException {
+        load("fun.fengwk.automapper.annotation.StatementOptions.flushCache=no").getStmtOptions();
+    }
+
+    @Test(expected = AutoMapperException.class)
+    public void testInvalidStatementType() throws IOException {
+        load("fun.fengwk.automapper.annotation.StatementOptions.statementType=PREPARE").getStmtOptions();
+    }
+
+    @Test(expected = AutoMapperException.class)
+    public void testInvalidSingleResultLimit() throws IOException {
+        load("fun.fengwk.automapper.annotation.AutoMapper.singleResultLimit=two").getSingleResultLimit();
+    }
+
+    private GlobalConfig load(String content) throws IOException {
+        GlobalConfig globalConfig = new GlobalConfig();
+        globalConfig.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+        return globalConfig;
+    }
+
+}
@@ -74,7 +74,7 @@ public class ParserTest {
         ASTNode node = parser.parse(tokenIterator);
         ToStringASTVisitor visitor = new ToStringASTVisitor();
         node.postVisit(visitor);
-        assert "deleteByIdIsOrderByNameIs".equals(visitor.toString());
+        assert "deleteByIdIsOrderByNameAsc".equals(visitor.toString());
     }
 
     @Test
@@ -194,4 +194,108 @@ public class ParserTest {
         assert "updateByIdIsAndNameBeforeSelective".equals(visitor.toString());
     }
 
+    @Test
+    public void test15() {
+        String expr = "updateAllByIdSelective";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "updateAllByIdIsSelective".equals(visitor.toString());
+    }
+
+    @Test
+    public void test16() {
+        String expr = "updateStatusAndUpdatedAtByIdIn";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "updateStatusAndUpdatedAtByIdIn".equals(visitor.toString());
+    }
+
+    @Test
+    public void test17() {
+        String expr = "updateByIdDiff";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "updateByIdIsDiff".equals(visitor.toString());
+    }
+
+    @Test
+    public void test18() {
+        String expr = "deleteByCreatedAtBeforeOrderById";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "deleteByCreatedAtBeforeOrderByIdAsc".equals(visitor.toString());
+    }
+
+    @Test
+    public void test19() {
+        String expr = "existsByUsernameAndAgeGreaterThan";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "existsByUsernameIsAndAgeGreaterThan".equals(visitor.toString());
+    }
+
+    @Test
+    public void test20() {
+        String expr = "countByUserIdAndReadIsNullUpTo";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "countByUserIdIsAndReadIsNullUpTo".equals(visitor.toString());
+    }
+
+    @Test
+    public void test21() {
+        String expr = "findTop10ByUsernameOrderByIdDesc";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "findByUsernameIsOrderByIdDescTop10".equals(visitor.toString());
+    }
+
+    @Test
+    public void test22() {
+        String expr = "findIdAndUsernameByStatusIn";
+        Lexer lexer = new Lexer.Builder().build();
+        List<Token> tokens = lexer.analyse(expr);
+        TokenIterator tokenIterator = new TokenIterator(tokens.iterator());
+        Parser parser = new Parser();
+        ASTNode node = parser.parse(tokenIterator);
+        ToStringASTVisitor visitor = new ToStringASTVisitor();
+        node.postVisit(visitor);
+        assert "findByStatusInIdAndUsername".equals(visitor.toString());
+    }
+
 }
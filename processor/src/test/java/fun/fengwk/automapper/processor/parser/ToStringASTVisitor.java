@@ -7,12 +7,17 @@ import fun.fengwk.automapper.processor.parser.ast.ByOp;
 import fun.fengwk.automapper.processor.parser.ast.ConnectOp;
 import fun.fengwk.automapper.processor.parser.ast.Count;
 import fun.fengwk.automapper.processor.parser.ast.Delete;
+import fun.fengwk.automapper.processor.parser.ast.Diff;
+import fun.fengwk.automapper.processor.parser.ast.Exists;
+import fun.fengwk.automapper.processor.parser.ast.Fields;
 import fun.fengwk.automapper.processor.parser.ast.Find;
 import fun.fengwk.automapper.processor.parser.ast.Insert;
 import fun.fengwk.automapper.processor.parser.ast.OrderBy;
 import fun.fengwk.automapper.processor.parser.ast.OrderByOp;
 import fun.fengwk.automapper.processor.parser.ast.Page;
 import fun.fengwk.automapper.processor.parser.ast.Selective;
+import fun.fengwk.automapper.processor.parser.ast.Top;
+import fun.fengwk.automapper.processor.parser.ast.UpTo;
 import fun.fengwk.automapper.processor.parser.ast.Update;
 import fun.fengwk.automapper.processor.parser.ast.Variable;
 
@@ -74,6 +79,16 @@ public class ToStringASTVisitor implements ASTVisitor {
         stack.push(sb.toString());
     }
 
+    @Override
+    public void visit(Exists exists) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(exists.getLexeme().getValue());
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            sb.append(stack.get(i));
+        }
+        stack.push(sb.toString());
+    }
+
     @Override
     public void visit(Page page) {
         StringBuilder sb = new StringBuilder();
@@ -127,6 +142,15 @@ public class ToStringASTVisitor implements ASTVisitor {
         stack.push(sb.toString());
     }
 
+    @Override
+    public void visit(Fields fields) {
+        LinkedList<String> terms = new LinkedList<>();
+        for (int i = 0; i < fields.childrenSize(); i++) {
+            terms.push(stack.pop());
+        }
+        stack.push(String.join("And", terms));
+    }
+
     @Override
     public void visit(Variable variable) {
         stack.push(variable.getLexeme().getValue());
@@ -142,6 +166,21 @@ public class ToStringASTVisitor implements ASTVisitor {
         stack.push(selective.getLexeme().getValue());
     }
 
+    @Override
+    public void visit(Diff diff) {
+        stack.push(diff.getLexeme().getValue());
+    }
+
+    @Override
+    public void visit(Top top) {
+        stack.push(top.getLexeme().getValue() + (top.childrenSize() > 0 ? stack.pop() : ""));
+    }
+
+    @Override
+    public void visit(UpTo upTo) {
+        stack.push(upTo.getLexeme().getValue());
+    }
+
     @Override
     public String toString() {
         return stack.peek();
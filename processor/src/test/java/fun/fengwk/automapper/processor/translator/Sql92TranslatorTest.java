@@ -3,8 +3,12 @@ package fun.fengwk.automapper.processor.translator;
 import fun.fengwk.automapper.processor.naming.LowerUnderScoreCaseConverter;
 import fun.fengwk.automapper.processor.util.DOMUtils;
 import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 /**
  * @author fengwk
@@ -177,10 +181,8 @@ public class Sql92TranslatorTest {
                         "<!--auto mapper generate-->\n" +
                         "<delete id=\"deleteByUsernameAndUserAddress\">\n" +
                         "    delete from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "</delete>\n" +
                         "</mapper>"
         );
@@ -219,7 +221,7 @@ public class Sql92TranslatorTest {
 
     @Test
     public void testUpdateBy() {
-        String methodName = "updateByUsernameAndUserAddress";
+        String methodName = "updateByUsername";
 
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
@@ -236,20 +238,17 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<update id=\"updateByUsernameAndUserAddress\" parameterType=\"DemoDO\">\n" +
-                        "    update demo set id=#{id}, username=#{username}, user_address=#{userAddress}\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "<update id=\"updateByUsername\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set user_address=#{userAddress}\n" +
+                        "    where username=#{username}\n" +
                         "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testUpdateBySelective() {
-        String methodName = "updateByUsernameAndUserAddressSelective";
+    public void testUpdateByOr() {
+        String methodName = "updateByUsernameOrUserAddress";
 
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
@@ -266,34 +265,27 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<update id=\"updateByUsernameAndUserAddressSelective\" parameterType=\"DemoDO\">\n" +
-                        "    update demo set \n" +
-                        "    <trim suffixOverrides=\",\">\n" +
-                        "        <if test=\"id != null\">id=#{id},</if>\n" +
-                        "        <if test=\"username != null\">username=#{username},</if>\n" +
-                        "        <if test=\"userAddress != null\">user_address=#{userAddress},</if>\n" +
-                        "    </trim>\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "<update id=\"updateByUsernameOrUserAddress\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set username=#{username}, user_address=#{userAddress}\n" +
+                        "    where username=#{username}\n" +
+                        "    or user_address=#{userAddress}\n" +
                         "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testFindAll() {
-        String methodName = "findAll";
+    public void testUpdateBySelective() {
+        String methodName = "updateByUsernameSelective";
 
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Param p = new Param("DemoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, null, ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -301,26 +293,26 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"findAll\" resultType=\"DemoDO\">\n" +
-                        "    select id, username, user_address as userAddress\n" +
-                        "    from demo\n" +
-                        "</select>\n" +
+                        "<update id=\"updateByUsernameSelective\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set \n" +
+                        "    <trim suffixOverrides=\",\">\n" +
+                        "        <if test=\"userAddress != null\">user_address=#{userAddress},</if>\n" +
+                        "    </trim>\n" +
+                        "    where username=#{username}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testFindAllOrderBy() {
-        String methodName = "findAllOrderById";
-
-        BeanField bf1 = new BeanField("id", "id", true, false);
-        BeanField bf2 = new BeanField("username", "username", false, false);
-        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+    public void testIncrementById() {
+        String methodName = "incrementViewCountById";
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Param viewCount = new Param("int", "viewCount", "view_count", false, false, null, false);
+        Param id = new Param("long", "id", "id", false, false, null, false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, null, ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(viewCount, id), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -328,30 +320,23 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"findAllOrderById\" resultType=\"DemoDO\">\n" +
-                        "    select id, username, user_address as userAddress\n" +
-                        "    from demo\n" +
-                        "    order by id\n" +
-                        "</select>\n" +
+                        "<update id=\"incrementViewCountById\">\n" +
+                        "    update demo set view_count=view_count+#{viewCount}\n" +
+                        "    where id=#{id}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testFindBy1() {
-        String methodName = "findByUsernameAndUserAddress";
+    public void testDecrementByIdAndGreaterThanEquals() {
+        String methodName = "decrementStockByIdAndStockGreaterThanEquals";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
-
-        BeanField bf1 = new BeanField("id", "id", true, false);
-        BeanField bf2 = new BeanField("username", "username", false, false);
-        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
-
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Param stock = new Param("int", "stock", "stock", false, false, null, false);
+        Param id = new Param("long", "id", "id", false, false, null, false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(stock, id), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -359,33 +344,24 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"findByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
-                        "    select id, username, user_address as userAddress\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"decrementStockByIdAndStockGreaterThanEquals\">\n" +
+                        "    update demo set stock=stock-#{stock}\n" +
+                        "    where id=#{id}\n" +
+                        "    and stock&gt;=#{stock}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testFindByOrderBy1() {
-        String methodName = "findByUsernameAndUserAddressOrderByUsernameAndUserAddress";
-
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
-
-        BeanField bf1 = new BeanField("id", "id", true, false);
-        BeanField bf2 = new BeanField("username", "username", false, false);
-        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+    public void testIncrementDeltaById() {
+        String methodName = "incrementViewCountById";
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Param viewCountDelta = new Param("int", "viewCountDelta", "view_count_delta", false, false, null, false);
+        Param id = new Param("long", "id", "id", false, false, null, false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(viewCountDelta, id), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -393,27 +369,24 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"findByUsernameAndUserAddressOrderByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
-                        "    select id, username, user_address as userAddress\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
-                        "    order by username, user_address\n" +
-                        "</select>\n" +
+                        "<update id=\"incrementViewCountById\">\n" +
+                        "    update demo set view_count=view_count+#{viewCountDelta}\n" +
+                        "    where id=#{id}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountAll() {
-        String methodName = "countAll";
+    public void testDecrementDeltaByIdAndGreaterThanEquals() {
+        String methodName = "decrementStockByIdAndStockGreaterThanEquals";
 
-        Return ret = new Return("int", false, null);
+        Param stockDelta = new Param("int", "stockDelta", "stock_delta", false, false, null, false);
+        Param id = new Param("long", "id", "id", false, false, null, false);
+        Param stock = new Param("int", "stock", "stock", false, false, null, false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, null, ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(stockDelta, id, stock), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -421,25 +394,25 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countAll\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "</select>\n" +
+                        "<update id=\"decrementStockByIdAndStockGreaterThanEquals\">\n" +
+                        "    update demo set stock=stock-#{stockDelta}\n" +
+                        "    where id=#{id}\n" +
+                        "    and stock&gt;=#{stock}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy1() {
-        String methodName = "countByUsernameAndUserAddress";
-
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+    public void testUpdateNewFieldByIdAndField() {
+        String methodName = "updateStatusByIdAndStatus";
 
-        Return ret = new Return("int", false, null);
+        Param newStatus = new Param("int", "newStatus", "new_status", false, false, null, false);
+        Param id = new Param("long", "id", "id", false, false, null, false);
+        Param status = new Param("int", "status", "status", false, false, null, false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(newStatus, id, status), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -447,29 +420,28 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameAndUserAddress\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateStatusByIdAndStatus\">\n" +
+                        "    update demo set status=#{newStatus}\n" +
+                        "    where id=#{id}\n" +
+                        "    and status=#{status}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy2() {
-        String methodName = "countByUsernameIsAndUserAddressEquals";
+    public void testUpdateByIdDiff() {
+        String methodName = "updateByIdDiff";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("int", false, null);
+        Param oldParam = new Param("DemoDO", "old", null, false, true, Arrays.asList(bf1, bf2, bf3), false);
+        Param newParam = new Param("DemoDO", "updated", null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(oldParam, newParam), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -477,29 +449,37 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameIsAndUserAddressEquals\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateByIdDiff\">\n" +
+                        "    <choose>\n" +
+                        "        <when test=\"old.username != updated.username or old.userAddress != updated.userAddress\">\n" +
+                        "            update demo set \n" +
+                        "            <trim suffixOverrides=\",\">\n" +
+                        "                <if test=\"old.username != updated.username\">username=#{updated.username},</if>\n" +
+                        "                <if test=\"old.userAddress != updated.userAddress\">user_address=#{updated.userAddress},</if>\n" +
+                        "            </trim>\n" +
+                        "            where id=#{old.id}\n" +
+                        "        </when>\n" +
+                        "        <otherwise>\n" +
+                        "            update demo set username=username where 1=0\n" +
+                        "        </otherwise>\n" +
+                        "    </choose>\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy3() {
-        String methodName = "countByUsernameLessThanAndUserAddressLessThanEquals";
+    public void testUpdateByIdWithVersion() {
+        String methodName = "updateById";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("version", "version", false, false, true);
 
-        Return ret = new Return("int", false, null);
+        Param p = new Param("DemoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -507,29 +487,27 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameLessThanAndUserAddressLessThanEquals\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username&lt;#{username}\n" +
-                        "        and user_address&lt;=#{userAddress}\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateById\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set username=#{username}, version=version+1\n" +
+                        "    where id=#{id}\n" +
+                        "    and version=#{version}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy4() {
-        String methodName = "countByUsernameGreaterThanAndUserAddressGreaterThanEquals";
+    public void testUpdateByIdWithVersionSelective() {
+        String methodName = "updateByIdSelective";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("version", "version", false, false, true);
 
-        Return ret = new Return("int", false, null);
+        Param p = new Param("DemoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -537,29 +515,31 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameGreaterThanAndUserAddressGreaterThanEquals\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username&gt;#{username}\n" +
-                        "        and user_address&gt;=#{userAddress}\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateByIdSelective\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set \n" +
+                        "    <trim suffixOverrides=\",\">\n" +
+                        "        <if test=\"username != null\">username=#{username},</if>\n" +
+                        "        version=version+1,\n" +
+                        "    </trim>\n" +
+                        "    where id=#{id}\n" +
+                        "    and version=#{version}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy5() {
-        String methodName = "countByUsernameAfterAndUserAddressBefore";
+    public void testUpdateByIdOrUsernameWithVersion() {
+        String methodName = "updateByIdOrUsername";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("version", "version", false, false, true);
 
-        Return ret = new Return("int", false, null);
+        Param p = new Param("DemoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -567,30 +547,28 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameAfterAndUserAddressBefore\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username&gt;#{username}\n" +
-                        "        and user_address&lt;#{userAddress}\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateByIdOrUsername\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set username=#{username}, version=version+1\n" +
+                        "    where (id=#{id}\n" +
+                        "    or username=#{username})\n" +
+                        "    and version=#{version}\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
-
     }
 
     @Test
-    public void testCountBy6() {
-        String methodName = "countByUsernameIsNullAndUserAddressIsNotNull";
+    public void testUpdateByUsernameWithVersionAndSelectiveBy() {
+        String methodName = "updateByUsername";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, true);
+        BeanField bf3 = new BeanField("version", "version", false, false, true);
 
-        Return ret = new Return("int", false, null);
+        Param p = new Param("DemoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -598,29 +576,32 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameIsNullAndUserAddressIsNotNull\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
+                        "<update id=\"updateByUsername\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set username=#{username}, version=version+1\n" +
                         "    <where>\n" +
-                        "        username is null\n" +
-                        "        and user_address is not null\n" +
+                        "        <if test=\"username != null\">\n" +
+                        "            username=#{username}\n" +
+                        "        </if>\n" +
+                        "        and version=#{version}\n" +
+                        "        <if test=\"username == null\">and 1=0</if>\n" +
                         "    </where>\n" +
-                        "</select>\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy7() {
-        String methodName = "countByUsernameNotNullAndUserAddressLike";
+    public void testUpdateByIdOrUsernameWithVersionAndSelectiveBy() {
+        String methodName = "updateByIdOrUsername";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, true);
+        BeanField bf2 = new BeanField("username", "username", false, true);
+        BeanField bf3 = new BeanField("version", "version", false, false, true);
 
-        Return ret = new Return("int", false, null);
+        Param p = new Param("DemoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -628,29 +609,38 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameNotNullAndUserAddressLike\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
+                        "<update id=\"updateByIdOrUsername\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set username=#{username}, version=version+1\n" +
                         "    <where>\n" +
-                        "        username is not null\n" +
-                        "        and user_address like #{userAddress}\n" +
+                        "        <trim prefix=\"(\" prefixOverrides=\"and |or \" suffix=\")\">\n" +
+                        "            <if test=\"id != null\">\n" +
+                        "                id=#{id}\n" +
+                        "            </if>\n" +
+                        "            <if test=\"username != null\">\n" +
+                        "                or username=#{username}\n" +
+                        "            </if>\n" +
+                        "        </trim>\n" +
+                        "        and version=#{version}\n" +
+                        "        <if test=\"id == null and username == null\">and 1=0</if>\n" +
                         "    </where>\n" +
-                        "</select>\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy8() {
-        String methodName = "countByUsernameNotLikeAndUserAddressStartingWith";
+    public void testUpdateByIdDiffWithVersion() {
+        String methodName = "updateByIdDiff";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("version", "version", false, false, true);
 
-        Return ret = new Return("int", false, null);
+        Param oldParam = new Param("DemoDO", "old", null, false, true, Arrays.asList(bf1, bf2, bf3), false);
+        Param newParam = new Param("DemoDO", "updated", null, false, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(oldParam, newParam), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -658,29 +648,38 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameNotLikeAndUserAddressStartingWith\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username not like #{username}\n" +
-                        "        and user_address like '${userAddress}%'\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateByIdDiff\">\n" +
+                        "    <choose>\n" +
+                        "        <when test=\"old.username != updated.username\">\n" +
+                        "            update demo set \n" +
+                        "            <trim suffixOverrides=\",\">\n" +
+                        "                <if test=\"old.username != updated.username\">username=#{updated.username},</if>\n" +
+                        "                version=version+1,\n" +
+                        "            </trim>\n" +
+                        "            where id=#{old.id}\n" +
+                        "            and version=#{old.version}\n" +
+                        "        </when>\n" +
+                        "        <otherwise>\n" +
+                        "            update demo set username=username where 1=0\n" +
+                        "        </otherwise>\n" +
+                        "    </choose>\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy9() {
-        String methodName = "countByUsernameEndingWithAndUserAddressContaining";
+    public void testUpdateAllById() {
+        String methodName = "updateAllById";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("int", false, null);
+        Param param = new Param("demoDO", null, null, true, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -688,29 +687,40 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameEndingWithAndUserAddressContaining\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username like '%${username}'\n" +
-                        "        and user_address like '%${userAddress}%'\n" +
-                        "    </where>\n" +
-                        "</select>\n" +
+                        "<update id=\"updateAllById\" parameterType=\"demoDO\">\n" +
+                        "    update demo set\n" +
+                        "    username=case id\n" +
+                        "    <foreach collection=\"collection\" item=\"item\">\n" +
+                        "        when #{item.id} then #{item.username}\n" +
+                        "    </foreach>\n" +
+                        "    end,\n" +
+                        "    user_address=case id\n" +
+                        "    <foreach collection=\"collection\" item=\"item\">\n" +
+                        "        when #{item.id} then #{item.userAddress}\n" +
+                        "    </foreach>\n" +
+                        "    end\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"collection\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item.id}\n" +
+                        "    </foreach>\n" +
+                        "</update>\n" +
                         "</mapper>"
         );
     }
 
+    // 按非主键字段批量更新时同样不能修改自增主键
     @Test
-    public void testCountBy10() {
-        String methodName = "countByUsernameNotAndUserAddressIn";
+    public void testUpdateAllByUsername() {
+        String methodName = "updateAllByUsername";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("int", false, null);
+        Param param = new Param("demoDO", null, null, true, true, Arrays.asList(bf1, bf2, bf3), false);
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -718,29 +728,1090 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameNotAndUserAddressIn\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
-                        "    from demo\n" +
-                        "    <where>\n" +
-                        "        username != #{username}\n" +
-                        "        and user_address in\n" +
-                        "        <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "            #{item}\n" +
-                        "        </foreach>\n" +
-                        "    </where>\n" +
+                        "<update id=\"updateAllByUsername\" parameterType=\"demoDO\">\n" +
+                        "    update demo set\n" +
+                        "    user_address=case username\n" +
+                        "    <foreach collection=\"collection\" item=\"item\">\n" +
+                        "        when #{item.username} then #{item.userAddress}\n" +
+                        "    </foreach>\n" +
+                        "    end\n" +
+                        "    where username in\n" +
+                        "    <foreach close=\")\" collection=\"collection\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item.username}\n" +
+                        "    </foreach>\n" +
+                        "</update>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpdateUsernameAndUserAddressByIdIn() {
+        String methodName = "updateUsernameAndUserAddressByIdIn";
+
+        Param username = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param userAddress = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        Param ids = new Param("java.lang.Long", "id", "id", true, false, null, false);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(username, userAddress, ids), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<update id=\"updateUsernameAndUserAddressByIdIn\">\n" +
+                        "    update demo set username=#{username}, user_address=#{userAddress}\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"id\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "</update>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpdateUsernameAndUserAddressByIdInSelective() {
+        String methodName = "updateUsernameAndUserAddressByIdInSelective";
+
+        Param username = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param userAddress = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        Param ids = new Param("java.lang.Long", "id", "id", true, false, null, false);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(username, userAddress, ids), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<update id=\"updateUsernameAndUserAddressByIdInSelective\">\n" +
+                        "    update demo set \n" +
+                        "    <trim suffixOverrides=\",\">\n" +
+                        "        <if test=\"username != null\">username=#{username},</if>\n" +
+                        "        <if test=\"userAddress != null\">user_address=#{userAddress},</if>\n" +
+                        "    </trim>\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"id\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "</update>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpdateAllByIdSelective() {
+        String methodName = "updateAllByIdSelective";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Param param = new Param("demoDO", null, null, true, true, Arrays.asList(bf1, bf2, bf3), false);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<update id=\"updateAllByIdSelective\" parameterType=\"demoDO\">\n" +
+                        "    update demo set\n" +
+                        "    username=case id\n" +
+                        "    <foreach collection=\"collection\" item=\"item\">\n" +
+                        "        when #{item.id} then \n" +
+                        "        <choose>\n" +
+                        "            <when test=\"item.username != null\">#{item.username}</when>\n" +
+                        "            <otherwise>username</otherwise>\n" +
+                        "        </choose>\n" +
+                        "    </foreach>\n" +
+                        "    end,\n" +
+                        "    user_address=case id\n" +
+                        "    <foreach collection=\"collection\" item=\"item\">\n" +
+                        "        when #{item.id} then \n" +
+                        "        <choose>\n" +
+                        "            <when test=\"item.userAddress != null\">#{item.userAddress}</when>\n" +
+                        "            <otherwise>user_address</otherwise>\n" +
+                        "        </choose>\n" +
+                        "    </foreach>\n" +
+                        "    end\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"collection\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item.id}\n" +
+                        "    </foreach>\n" +
+                        "</update>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindAll() {
+        String methodName = "findAll";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, null, ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findAll\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindAllOrderBy() {
+        String methodName = "findAllOrderById";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, null, ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findAllOrderById\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    order by id\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindBy1() {
+        String methodName = "findByUsernameAndUserAddress";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindByOrderBy1() {
+        String methodName = "findByUsernameAndUserAddressOrderByUsernameAndUserAddress";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findByUsernameAndUserAddressOrderByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
+                        "    order by username, user_address\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindBySingleResult() {
+        String methodName = "findByUsername";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", false, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findByUsername\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    limit 2\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindBySingleResultLimitOne() {
+        String methodName = "findByUsername";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", false, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter(), null, 1));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findByUsername\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    limit 1\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindFirstBy() {
+        String methodName = "findFirstByUsernameOrderByIdDesc";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", false, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findFirstByUsernameOrderByIdDesc\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    order by id desc\n" +
+                        "    limit 1\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindTopBy() {
+        String methodName = "findTop10ByUsernameOrderByIdDesc";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findTop10ByUsernameOrderByIdDesc\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    order by id desc\n" +
+                        "    limit 10\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindTopAll() {
+        String methodName = "findTop10AllOrderById";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.emptyList(), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findTop10AllOrderById\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    order by id\n" +
+                        "    limit 10\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testPageFirstBy() {
+        String methodName = "pageFirstByUsername";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+    }
+
+    @Test
+    public void testFindFieldBy() {
+        String methodName = "findIdByUsername";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        Return ret = new Return("java.lang.Long", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findIdByUsername\" parameterType=\"java.lang.String\" resultType=\"java.lang.Long\">\n" +
+                        "    select id\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    limit 2\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindFieldsBy() {
+        String methodName = "findIdAndUserAddressByUsernameOrderById";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findIdAndUserAddressByUsernameOrderById\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    order by id\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testFindFieldsByScalarReturn() {
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        Return ret = new Return("java.lang.Long", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("findIdAndUserAddressByUsername", Collections.singletonList(p1), ret));
+    }
+
+    @Test
+    public void testFindByWithLazyField() {
+        String methodName = "findByUsername";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("description", "description", false, false, false, true);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findByUsername\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindLazyFieldBy() {
+        String methodName = "findDescriptionById";
+
+        Param p1 = new Param("long", "id", "id", false, false, null, false);
+
+        Return ret = new Return("java.lang.String", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findDescriptionById\" parameterType=\"long\" resultType=\"java.lang.String\">\n" +
+                        "    select description\n" +
+                        "    from demo\n" +
+                        "    where id=#{id}\n" +
+                        "    limit 2\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountAll() {
+        String methodName = "countAll";
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, null, ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countAll\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy1() {
+        String methodName = "countByUsernameAndUserAddress";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameAndUserAddress\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy2() {
+        String methodName = "countByUsernameIsAndUserAddressEquals";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameIsAndUserAddressEquals\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy3() {
+        String methodName = "countByUsernameLessThanAndUserAddressLessThanEquals";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameLessThanAndUserAddressLessThanEquals\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username&lt;#{username}\n" +
+                        "    and user_address&lt;=#{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy4() {
+        String methodName = "countByUsernameGreaterThanAndUserAddressGreaterThanEquals";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameGreaterThanAndUserAddressGreaterThanEquals\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username&gt;#{username}\n" +
+                        "    and user_address&gt;=#{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy5() {
+        String methodName = "countByUsernameAfterAndUserAddressBefore";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameAfterAndUserAddressBefore\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username&gt;#{username}\n" +
+                        "    and user_address&lt;#{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+
+    }
+
+    @Test
+    public void testCountBy6() {
+        String methodName = "countByUsernameIsNullAndUserAddressIsNotNull";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameIsNullAndUserAddressIsNotNull\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username is null\n" +
+                        "    and user_address is not null\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy7() {
+        String methodName = "countByUsernameNotNullAndUserAddressLike";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameNotNullAndUserAddressLike\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username is not null\n" +
+                        "    and user_address like #{userAddress}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy8() {
+        String methodName = "countByUsernameNotLikeAndUserAddressStartingWith";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameNotLikeAndUserAddressStartingWith\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username not like #{username}\n" +
+                        "    and user_address like '${userAddress}%'\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy9() {
+        String methodName = "countByUsernameEndingWithAndUserAddressContaining";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameEndingWithAndUserAddressContaining\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username like '%${username}'\n" +
+                        "    and user_address like '%${userAddress}%'\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy10() {
+        String methodName = "countByUsernameNotAndUserAddressIn";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameNotAndUserAddressIn\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username != #{username}\n" +
+                        "    and user_address in\n" +
+                        "    <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy11() {
+        String methodName = "countByUsernameInAndUserAddressNotIn";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameInAndUserAddressNotIn\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    where username in\n" +
+                        "    <foreach close=\")\" collection=\"username\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "    and user_address not in\n" +
+                        "    <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountBy12() {
+        String methodName = "countByUsernameInAndUserAddressNotIn";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, true);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, true);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameInAndUserAddressNotIn\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "    <where>\n" +
+                        "        <if test=\"username != null\">\n" +
+                        "            username in\n" +
+                        "            <foreach close=\")\" collection=\"username\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "                #{item}\n" +
+                        "            </foreach>\n" +
+                        "        </if>\n" +
+                        "        <if test=\"userAddress != null\">\n" +
+                        "            and user_address not in\n" +
+                        "            <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "                #{item}\n" +
+                        "            </foreach>\n" +
+                        "        </if>\n" +
+                        "    </where>\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountAllUpTo() {
+        String methodName = "countAllUpTo";
+
+        Param p1 = new Param("int", "limit", "limit", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countAllUpTo\" parameterType=\"int\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from (\n" +
+                        "        select 1\n" +
+                        "        from demo\n" +
+                        "        limit #{limit}\n" +
+                        "    ) t\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testCountByUpTo() {
+        String methodName = "countByUsernameAndUserAddressUpTo";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, true);
+        Param p3 = new Param("int", "limit", "limit", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"countByUsernameAndUserAddressUpTo\" resultType=\"int\">\n" +
+                        "    select count(*)\n" +
+                        "    from (\n" +
+                        "        select 1\n" +
+                        "        from demo\n" +
+                        "        <where>\n" +
+                        "            username=#{username}\n" +
+                        "            <if test=\"userAddress != null\">\n" +
+                        "                and user_address=#{userAddress}\n" +
+                        "            </if>\n" +
+                        "        </where>\n" +
+                        "        limit #{limit}\n" +
+                        "    ) t\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testCountByUpToWithoutLimit() {
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("countByUsernameUpTo", Collections.singletonList(p1), ret));
+    }
+
+    @Test
+    public void testExistsBy1() {
+        String methodName = "existsByUsernameAndUserAddress";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+
+        Return ret = new Return("boolean", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"existsByUsernameAndUserAddress\" resultType=\"boolean\">\n" +
+                        "    select exists(\n" +
+                        "        select 1\n" +
+                        "        from demo\n" +
+                        "        where username=#{username}\n" +
+                        "        and user_address=#{userAddress}\n" +
+                        "    )\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testExistsBy2() {
+        String methodName = "existsByUsernameAndUserAddress";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, true);
+
+        Return ret = new Return("java.lang.Boolean", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"existsByUsernameAndUserAddress\" resultType=\"java.lang.Boolean\">\n" +
+                        "    select exists(\n" +
+                        "        select 1\n" +
+                        "        from demo\n" +
+                        "        <where>\n" +
+                        "            username=#{username}\n" +
+                        "            <if test=\"userAddress != null\">\n" +
+                        "                and user_address=#{userAddress}\n" +
+                        "            </if>\n" +
+                        "        </where>\n" +
+                        "    )\n" +
                         "</select>\n" +
                         "</mapper>"
         );
     }
 
+    @Test(expected = TranslateException.class)
+    public void testExistsByIntReturn() {
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        Return ret = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("existsByUsername", Collections.singletonList(p1), ret));
+    }
+
     @Test
-    public void testCountBy11() {
-        String methodName = "countByUsernameInAndUserAddressNotIn";
+    public void testPageAll1() {
+        String methodName = "pageAll";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        Param p1 = new Param("int", "offset", "offset", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -751,35 +1822,29 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameInAndUserAddressNotIn\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
+                        "<select id=\"pageAll\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username in\n" +
-                        "        <foreach close=\")\" collection=\"username\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "            #{item}\n" +
-                        "        </foreach>\n" +
-                        "        and user_address not in\n" +
-                        "        <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "            #{item}\n" +
-                        "        </foreach>\n" +
-                        "    </where>\n" +
+                        "    limit #{offset},#{limit}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testCountBy12() {
-        String methodName = "countByUsernameInAndUserAddressNotIn";
+    public void testPageAll2() {
+        String methodName = "pageAll";
 
-        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, true);
-        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, true);
+        Param p1 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -787,31 +1852,18 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"countByUsernameInAndUserAddressNotIn\" resultType=\"int\">\n" +
-                        "    select count(*)\n" +
+                        "<select id=\"pageAll\" parameterType=\"int\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        <if test=\"username != null\">\n" +
-                        "            username in\n" +
-                        "            <foreach close=\")\" collection=\"username\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "                #{item}\n" +
-                        "            </foreach>\n" +
-                        "        </if>\n" +
-                        "        <if test=\"userAddress != null\">\n" +
-                        "            and user_address not in\n" +
-                        "            <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "                #{item}\n" +
-                        "            </foreach>\n" +
-                        "        </if>\n" +
-                        "    </where>\n" +
+                        "    limit #{limit}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
     }
 
     @Test
-    public void testPageAll1() {
-        String methodName = "pageAll";
+    public void testPageAllOrderBy() {
+        String methodName = "pageAllOrderById";
 
         Param p1 = new Param("int", "offset", "offset", false, false, null, false);
         Param p2 = new Param("int", "limit", "limit", false, false, null, false);
@@ -820,7 +1872,7 @@ public class Sql92TranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -831,9 +1883,10 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"pageAll\" resultType=\"DemoDO\">\n" +
+                        "<select id=\"pageAllOrderById\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
+                        "    order by id\n" +
                         "    limit #{offset},#{limit}\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -841,19 +1894,20 @@ public class Sql92TranslatorTest {
     }
 
     @Test
-    public void testPageAll2() {
-        String methodName = "pageAll";
+    public void testPageAllOrderByAfter() {
+        String methodName = "pageAllOrderById";
 
-        Param p1 = new Param("int", "limit", "limit", false, false, null, false);
+        Param p1 = new Param("java.lang.Long", "after", "after", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
 
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -861,9 +1915,15 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"pageAll\" parameterType=\"int\" resultType=\"DemoDO\">\n" +
+                        "<select id=\"pageAllOrderById\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
+                        "    <where>\n" +
+                        "        <if test=\"after != null\">\n" +
+                        "            and id&gt;#{after}\n" +
+                        "        </if>\n" +
+                        "    </where>\n" +
+                        "    order by id\n" +
                         "    limit #{limit}\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -871,20 +1931,91 @@ public class Sql92TranslatorTest {
     }
 
     @Test
-    public void testPageAllOrderBy() {
-        String methodName = "pageAllOrderById";
+    public void testPageByOrderByAfter() {
+        String methodName = "pageByUsernameOrderByUserAddressDescAndIdDesc";
 
-        Param p1 = new Param("int", "offset", "offset", false, false, null, false);
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("DemoDO", "after", "after", false, true, Arrays.asList(bf1, bf2, bf3), false);
+        Param p3 = new Param("int", "limit", "limit", false, false, null, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageByUsernameOrderByUserAddressDescAndIdDesc\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    <where>\n" +
+                        "        username=#{username}\n" +
+                        "        <if test=\"after != null\">\n" +
+                        "            and (user_address, id) &lt; (#{after.userAddress}, #{after.id})\n" +
+                        "        </if>\n" +
+                        "    </where>\n" +
+                        "    order by user_address desc, id desc\n" +
+                        "    limit #{limit}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testPageWithTotal() {
+        String methodName = "pageAll";
+
+        Param p1 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2), new PageWrapper("Page", "items", "total"));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testPageOrderByAfterMixedDirection() {
+        String methodName = "pageAllOrderByUsernameAndIdDesc";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Param p1 = new Param("DemoDO", "after", "after", false, true, Arrays.asList(bf1, bf2), false);
         Param p2 = new Param("int", "limit", "limit", false, false, null, false);
 
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+    }
+
+    @Test
+    public void testPageByDeferredJoin() {
+        String methodName = "pageByUsernameOrderByUserAddressDesc";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "offset", "offset", false, false, null, false);
+        Param p3 = new Param("int", "limit", "limit", false, false, null, false);
+
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
-        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3), ret, "id"));
 
         assert DOMUtils.toString(translator.getDocument()).equals(
                 "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
@@ -892,11 +2023,17 @@ public class Sql92TranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<select id=\"pageAllOrderById\" resultType=\"DemoDO\">\n" +
+                        "<select id=\"pageByUsernameOrderByUserAddressDesc\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    order by id\n" +
-                        "    limit #{offset},#{limit}\n" +
+                        "    join (\n" +
+                        "        select id\n" +
+                        "        from demo\n" +
+                        "        where username=#{username}\n" +
+                        "        order by user_address desc\n" +
+                        "        limit #{offset},#{limit}\n" +
+                        "    ) k using(id)\n" +
+                        "    order by user_address desc\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -915,7 +2052,7 @@ public class Sql92TranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3, p4), ret));
@@ -929,10 +2066,8 @@ public class Sql92TranslatorTest {
                         "<select id=\"pageByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "    limit #{offset},#{limit}\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -952,7 +2087,7 @@ public class Sql92TranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3, p4), ret));
@@ -966,10 +2101,8 @@ public class Sql92TranslatorTest {
                         "<select id=\"pageByUsernameAndUserAddressOrderByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "    order by username, user_address\n" +
                         "    limit #{offset},#{limit}\n" +
                         "</select>\n" +
@@ -977,4 +2110,223 @@ public class Sql92TranslatorTest {
         );
     }
 
+    @Test(expected = TranslateException.class)
+    public void testDeleteByWithLimit() {
+        Param p1 = new Param("java.util.Date", "createdAt", "created_at", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("deleteByCreatedAtBefore", Arrays.asList(p1, p2), null));
+    }
+
+    @Test
+    public void testFindWithStreamField() {
+        Param p1 = new Param("java.lang.Long", "id", "id", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("content", "content", false, false, false, false, "org.apache.ibatis.type.BlobInputStreamTypeHandler");
+
+        Return ret = new Return("DemoDO", false, true, Arrays.asList(bf1, bf2, bf3));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("findById", Collections.singletonList(p1), ret));
+        translator.translate(new MethodInfo("findUsernameById", Collections.singletonList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<resultMap id=\"findByIdResultMap\" type=\"DemoDO\">\n" +
+                        "    <id column=\"id\" property=\"id\"/>\n" +
+                        "    <result column=\"username\" property=\"username\"/>\n" +
+                        "    <result column=\"content\" property=\"content\" typeHandler=\"org.apache.ibatis.type.BlobInputStreamTypeHandler\"/>\n" +
+                        "</resultMap>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findById\" parameterType=\"java.lang.Long\" resultMap=\"findByIdResultMap\">\n" +
+                        "    select id, username, content\n" +
+                        "    from demo\n" +
+                        "    where id=#{id}\n" +
+                        "    limit 2\n" +
+                        "</select>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findUsernameById\" parameterType=\"java.lang.Long\" resultType=\"DemoDO\">\n" +
+                        "    select username\n" +
+                        "    from demo\n" +
+                        "    where id=#{id}\n" +
+                        "    limit 2\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testPageWithStreamField() {
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "offset", "offset", false, false, null, false);
+        Param p3 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("content", "content", false, false, false, false, "org.apache.ibatis.type.ClobReaderTypeHandler");
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2));
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("pageByUsername", Arrays.asList(p1, p2, p3), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<resultMap id=\"pageByUsernameResultMap\" type=\"DemoDO\">\n" +
+                        "    <id column=\"id\" property=\"id\"/>\n" +
+                        "    <result column=\"content\" property=\"content\" typeHandler=\"org.apache.ibatis.type.ClobReaderTypeHandler\"/>\n" +
+                        "</resultMap>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageByUsername\" resultMap=\"pageByUsernameResultMap\">\n" +
+                        "    select id, content\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    limit #{offset},#{limit}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindStreaming() {
+        Param p1 = new Param("int", "isDeleted", "is_deleted", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2), null, true);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("findByIsDeleted", Arrays.asList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select fetchSize=\"1000\" id=\"findByIsDeleted\" parameterType=\"int\" resultSetType=\"FORWARD_ONLY\" resultType=\"DemoDO\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    where is_deleted=#{isDeleted}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testStmtOptions() {
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Param p1 = new Param("demoDO", null, null, false, true, Arrays.asList(bf1, bf2), false);
+        Param p2 = new Param("int", "isDeleted", "is_deleted", false, false, null, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2));
+        Return streamingRet = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2), null, true);
+        Return count = new Return("int", false, false, null);
+
+        StmtOptions defaultStmtOptions = new StmtOptions(100, 5, false, null, null);
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter(),
+                null, TranslateContext.DEFAULT_SINGLE_RESULT_LIMIT, defaultStmtOptions));
+        translator.translate(new MethodInfo("insert", Collections.singletonList(p1), null, null,
+                new StmtOptions(null, null, null, false, null)));
+        translator.translate(new MethodInfo("findByIsDeleted", Collections.singletonList(p2), ret));
+        translator.translate(new MethodInfo("findAllOrderById", Collections.emptyList(), streamingRet));
+        translator.translate(new MethodInfo("countAll", Collections.emptyList(), count, null,
+                new StmtOptions(null, 30, true, null, "STATEMENT")));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<insert flushCache=\"false\" id=\"insert\" keyProperty=\"id\" parameterType=\"demoDO\" timeout=\"5\" useGeneratedKeys=\"true\">\n" +
+                        "    insert into demo (username) values\n" +
+                        "    (#{username})\n" +
+                        "</insert>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select fetchSize=\"100\" id=\"findByIsDeleted\" parameterType=\"int\" resultType=\"DemoDO\" timeout=\"5\" useCache=\"false\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    where is_deleted=#{isDeleted}\n" +
+                        "</select>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select fetchSize=\"1000\" id=\"findAllOrderById\" resultSetType=\"FORWARD_ONLY\" resultType=\"DemoDO\" timeout=\"5\" useCache=\"false\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    order by id\n" +
+                        "</select>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select fetchSize=\"100\" id=\"countAll\" resultType=\"int\" statementType=\"STATEMENT\" timeout=\"30\" useCache=\"true\">\n" +
+                        "    select count(*)\n" +
+                        "    from demo\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testStaticSql() {
+        Param username = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param userAddress = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        Param selectiveUsername = new Param("java.lang.String", "username", "username", false, false, null, true);
+        Param ids = new Param("java.lang.Long", "id", "id", true, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+        Return count = new Return("int", false, false, null);
+
+        Sql92Translator translator = new Sql92Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("findByUsernameAndUserAddress", Arrays.asList(username, userAddress), ret));
+        translator.translate(new MethodInfo("countByUsernameOrUserAddress", Arrays.asList(username, userAddress), count));
+        translator.translate(new MethodInfo("deleteByUsername", Collections.singletonList(username), null));
+        translator.translate(new MethodInfo("findByUsernameAndUserAddressOrderByUsername", Arrays.asList(selectiveUsername, userAddress), ret));
+        translator.translate(new MethodInfo("findByIdIn", Collections.singletonList(ids), ret));
+
+        assert isStatic(translator, "findByUsernameAndUserAddress");
+        assert isStatic(translator, "countByUsernameOrUserAddress");
+        assert isStatic(translator, "deleteByUsername");
+        assert !isStatic(translator, "findByUsernameAndUserAddressOrderByUsername");
+        assert !isStatic(translator, "findByIdIn");
+    }
+
+    // 不包含动态标签以及${}的语句会被mybatis解析为RawSqlSource
+    private boolean isStatic(Translator translator, String id) {
+        NodeList stmtNodes = translator.getDocument().getDocumentElement().getChildNodes();
+        for (int i = 0; i < stmtNodes.getLength(); i++) {
+            Node stmtNode = stmtNodes.item(i);
+            if (stmtNode instanceof Element && id.equals(((Element) stmtNode).getAttribute("id"))) {
+                NodeList childNodes = stmtNode.getChildNodes();
+                for (int j = 0; j < childNodes.getLength(); j++) {
+                    if (childNodes.item(j).getNodeType() == Node.ELEMENT_NODE) {
+                        return false;
+                    }
+                }
+                return !stmtNode.getTextContent().contains("${");
+            }
+        }
+        throw new AssertionError(id + " not found");
+    }
+
 }
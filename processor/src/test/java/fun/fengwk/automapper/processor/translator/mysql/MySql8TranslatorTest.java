@@ -0,0 +1,279 @@
+package fun.fengwk.automapper.processor.translator.mysql;
+
+import fun.fengwk.automapper.processor.naming.LowerUnderScoreCaseConverter;
+import fun.fengwk.automapper.processor.translator.BeanField;
+import fun.fengwk.automapper.processor.translator.MethodInfo;
+import fun.fengwk.automapper.processor.translator.PageWrapper;
+import fun.fengwk.automapper.processor.translator.Param;
+import fun.fengwk.automapper.processor.translator.Return;
+import fun.fengwk.automapper.processor.translator.TranslateContext;
+import fun.fengwk.automapper.processor.translator.TranslateException;
+import fun.fengwk.automapper.processor.util.DOMUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author fengwk
+ */
+public class MySql8TranslatorTest {
+
+    @Test
+    public void testUpsertAll() {
+        String methodName = "upsertAll";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Param param = new Param("demoDO", null, null, true, true, Arrays.asList(bf1, bf2, bf3), false);
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<insert id=\"upsertAll\" keyProperty=\"id\" parameterType=\"demoDO\" useGeneratedKeys=\"true\">\n" +
+                        "    insert into demo (username, user_address) values\n" +
+                        "    <foreach collection=\"collection\" item=\"item\" separator=\",\">\n" +
+                        "        (#{item.username}, #{item.userAddress})\n" +
+                        "    </foreach>\n" +
+                        "    as new\n" +
+                        "    on duplicate key update username=new.username, user_address=new.user_address\n" +
+                        "</insert>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testPageWithTotal() {
+        String methodName = "pageByUsernameOrderById";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "offset", "offset", false, false, null, false);
+        Param p3 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3), new PageWrapper("Page", "items", "total"));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3), ret));
+
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<resultMap id=\"pageByUsernameOrderByIdResultMap\" type=\"Page\">\n" +
+                        "    <result column=\"total\" property=\"total\"/>\n" +
+                        "    <collection ofType=\"DemoDO\" property=\"items\">\n" +
+                        "        <id column=\"id\" property=\"id\"/>\n" +
+                        "        <result column=\"username\" property=\"username\"/>\n" +
+                        "        <result column=\"userAddress\" property=\"userAddress\"/>\n" +
+                        "    </collection>\n" +
+                        "</resultMap>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageByUsernameOrderById\" resultMap=\"pageByUsernameOrderByIdResultMap\">\n" +
+                        "    select t.id, t.username, t.user_address as userAddress, coalesce(t.total, (\n" +
+                        "        select count(*)\n" +
+                        "        from demo\n" +
+                        "        where username=#{username}\n" +
+                        "    )) as total\n" +
+                        "    from (select 1) d\n" +
+                        "    left join (\n" +
+                        "        select id, username, user_address, count(*) over() as total\n" +
+                        "        from demo\n" +
+                        "        where username=#{username}\n" +
+                        "        order by id\n" +
+                        "        limit #{offset},#{limit}\n" +
+                        "    ) t on true\n" +
+                        "    order by id\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    // 当前页没有数据时仍需返回一行以携带总数，且没有@UseGeneratedKeys时以id字段区分元素
+    @Test
+    public void testPageAllWithTotal() {
+        String methodName = "pageAll";
+
+        Param p1 = new Param("int", "offset", "offset", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", false, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2), new PageWrapper("Page", "records", "total"));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<resultMap id=\"pageAllResultMap\" type=\"Page\">\n" +
+                        "    <result column=\"total\" property=\"total\"/>\n" +
+                        "    <collection ofType=\"DemoDO\" property=\"records\">\n" +
+                        "        <id column=\"id\" property=\"id\"/>\n" +
+                        "        <result column=\"username\" property=\"username\"/>\n" +
+                        "    </collection>\n" +
+                        "</resultMap>\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageAll\" resultMap=\"pageAllResultMap\">\n" +
+                        "    select t.id, t.username, coalesce(t.total, (\n" +
+                        "        select count(*)\n" +
+                        "        from demo\n" +
+                        "    )) as total\n" +
+                        "    from (select 1) d\n" +
+                        "    left join (\n" +
+                        "        select id, username, count(*) over() as total\n" +
+                        "        from demo\n" +
+                        "        limit #{offset},#{limit}\n" +
+                        "    ) t on true\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testPageWithTotalWithoutKey() {
+        Param p1 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1), new PageWrapper("Page", "items", "total"));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("pageAll", Arrays.asList(p1), ret));
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testPageForUpdateWithTotal() {
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1), new PageWrapper("Page", "items", "total"));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("pageForUpdateByUsername", Arrays.asList(p1, p2), ret));
+    }
+
+    @Test
+    public void testFindForUpdateSkipLocked() {
+        String methodName = "findForUpdateSkipLockedByUsername";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findForUpdateSkipLockedByUsername\" parameterType=\"java.lang.String\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    for update skip locked\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testPageForUpdateNowait() {
+        String methodName = "pageForUpdateNowaitByUsernameOrderById";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageForUpdateNowaitByUsernameOrderById\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    order by id\n" +
+                        "    limit #{limit}\n" +
+                        "    for update nowait\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testPageForUpdateSkipLockedByIdIn() {
+        String methodName = "pageForUpdateSkipLockedByIdIn";
+
+        Param p1 = new Param("java.lang.Long", "id", "id", true, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2));
+
+        MySql8Translator translator = new MySql8Translator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageForUpdateSkipLockedByIdIn\" resultType=\"DemoDO\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"id\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "    order by id\n" +
+                        "    limit #{limit}\n" +
+                        "    for update skip locked\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+}
@@ -6,6 +6,7 @@ import fun.fengwk.automapper.processor.translator.MethodInfo;
 import fun.fengwk.automapper.processor.translator.Param;
 import fun.fengwk.automapper.processor.translator.Return;
 import fun.fengwk.automapper.processor.translator.TranslateContext;
+import fun.fengwk.automapper.processor.translator.TranslateException;
 import fun.fengwk.automapper.processor.util.DOMUtils;
 import org.junit.Test;
 
@@ -197,23 +198,175 @@ public class MySqlTranslatorTest {
                         "\n" +
                         "<!--auto mapper generate-->\n" +
                         "<insert id=\"insertAllSelective\" keyProperty=\"id\" parameterType=\"demoDO\" useGeneratedKeys=\"true\">\n" +
-                        "    <foreach collection=\"collection\" item=\"item\" separator=\";\">\n" +
-                        "        insert into demo\n" +
-                        "        <trim prefix=\"(\" suffix=\")\" suffixOverrides=\",\">\n" +
-                        "            <if test=\"item.username != null\">username,</if>\n" +
-                        "            <if test=\"item.userAddress != null\">user_address,</if>\n" +
-                        "        </trim>\n" +
-                        "        values\n" +
-                        "        <trim prefix=\"(\" suffix=\")\" suffixOverrides=\",\">\n" +
-                        "            <if test=\"item.username != null\">#{item.username},</if>\n" +
-                        "            <if test=\"item.userAddress != null\">#{item.userAddress},</if>\n" +
-                        "        </trim>\n" +
+                        "    insert into demo (username, user_address) values\n" +
+                        "    <foreach collection=\"collection\" item=\"item\" separator=\",\">\n" +
+                        "        (\n" +
+                        "            <choose>\n" +
+                        "                <when test=\"item.username != null\">#{item.username}</when>\n" +
+                        "                <otherwise>default</otherwise>\n" +
+                        "            </choose>,\n" +
+                        "            <choose>\n" +
+                        "                <when test=\"item.userAddress != null\">#{item.userAddress}</when>\n" +
+                        "                <otherwise>default</otherwise>\n" +
+                        "            </choose>\n" +
+                        "        )\n" +
+                        "    </foreach>\n" +
+                        "</insert>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpsert() {
+        String methodName = "upsert";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Param param = new Param("demoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<insert id=\"upsert\" keyProperty=\"id\" parameterType=\"demoDO\" useGeneratedKeys=\"true\">\n" +
+                        "    insert into demo (username, user_address) values\n" +
+                        "    (#{username}, #{userAddress})\n" +
+                        "    on duplicate key update username=values(username), user_address=values(user_address)\n" +
+                        "</insert>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpsertWithUpsertExcludeField() {
+        String methodName = "upsert";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("createTime", "create_time", false, false, false, false, null, true);
+
+        Param param = new Param("demoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<insert id=\"upsert\" keyProperty=\"id\" parameterType=\"demoDO\" useGeneratedKeys=\"true\">\n" +
+                        "    insert into demo (username, create_time) values\n" +
+                        "    (#{username}, #{createTime})\n" +
+                        "    on duplicate key update username=values(username)\n" +
+                        "</insert>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test(expected = TranslateException.class)
+    public void testUpsertWithAllFieldsUpsertExcluded() {
+        String methodName = "upsert";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("createTime", "create_time", false, false, false, false, null, true);
+
+        Param param = new Param("demoDO", null, null, false, true, Arrays.asList(bf1, bf2), false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+    }
+
+    @Test
+    public void testUpsertSelective() {
+        String methodName = "upsertSelective";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Param param = new Param("demoDO", null, null, false, true, Arrays.asList(bf1, bf2, bf3), false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<insert id=\"upsertSelective\" keyProperty=\"id\" parameterType=\"demoDO\" useGeneratedKeys=\"true\">\n" +
+                        "    insert into demo\n" +
+                        "    <trim prefix=\"(\" suffix=\")\" suffixOverrides=\",\">\n" +
+                        "        <if test=\"username != null\">username,</if>\n" +
+                        "        <if test=\"userAddress != null\">user_address,</if>\n" +
+                        "    </trim>\n" +
+                        "    values\n" +
+                        "    <trim prefix=\"(\" suffix=\")\" suffixOverrides=\",\">\n" +
+                        "        <if test=\"username != null\">#{username},</if>\n" +
+                        "        <if test=\"userAddress != null\">#{userAddress},</if>\n" +
+                        "    </trim>\n" +
+                        "    <trim prefix=\"on duplicate key update\" suffixOverrides=\",\">\n" +
+                        "        <if test=\"username != null\">username=values(username),</if>\n" +
+                        "        <if test=\"userAddress != null\">user_address=values(user_address),</if>\n" +
+                        "    </trim>\n" +
+                        "</insert>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpsertAll() {
+        String methodName = "upsertAll";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Param param = new Param("demoDO", null, null, true, true, Arrays.asList(bf1, bf2, bf3), false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<insert id=\"upsertAll\" keyProperty=\"id\" parameterType=\"demoDO\" useGeneratedKeys=\"true\">\n" +
+                        "    insert into demo (username, user_address) values\n" +
+                        "    <foreach collection=\"collection\" item=\"item\" separator=\",\">\n" +
+                        "        (#{item.username}, #{item.userAddress})\n" +
                         "    </foreach>\n" +
+                        "    on duplicate key update username=values(username), user_address=values(user_address)\n" +
                         "</insert>\n" +
                         "</mapper>"
         );
     }
 
+    @Test(expected = TranslateException.class)
+    public void testUpsertAllSelective() {
+        String methodName = "upsertAllSelective";
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Param param = new Param("demoDO", null, null, true, true, Arrays.asList(bf1, bf2), false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(param), null));
+    }
+
     @Test
     public void testDeleteAll() {
         String methodName = "deleteAll";
@@ -252,10 +405,8 @@ public class MySqlTranslatorTest {
                         "<!--auto mapper generate-->\n" +
                         "<delete id=\"deleteByUsernameAndUserAddress\">\n" +
                         "    delete from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "</delete>\n" +
                         "</mapper>"
         );
@@ -294,7 +445,7 @@ public class MySqlTranslatorTest {
 
     @Test
     public void testUpdateBy() {
-        String methodName = "updateByUsernameAndUserAddress";
+        String methodName = "updateByUsername";
 
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
@@ -311,12 +462,9 @@ public class MySqlTranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<update id=\"updateByUsernameAndUserAddress\" parameterType=\"DemoDO\">\n" +
-                        "    update demo set id=#{id}, username=#{username}, user_address=#{userAddress}\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "<update id=\"updateByUsername\" parameterType=\"DemoDO\">\n" +
+                        "    update demo set user_address=#{userAddress}\n" +
+                        "    where username=#{username}\n" +
                         "</update>\n" +
                         "</mapper>"
         );
@@ -324,7 +472,7 @@ public class MySqlTranslatorTest {
 
     @Test
     public void testUpdateBySelective() {
-        String methodName = "updateByUsernameAndUserAddressSelective";
+        String methodName = "updateByUsernameSelective";
 
         BeanField bf1 = new BeanField("id", "id", true, false);
         BeanField bf2 = new BeanField("username", "username", false, false);
@@ -341,17 +489,12 @@ public class MySqlTranslatorTest {
                         "<mapper namespace=\"demo\">\n" +
                         "\n" +
                         "<!--auto mapper generate-->\n" +
-                        "<update id=\"updateByUsernameAndUserAddressSelective\" parameterType=\"DemoDO\">\n" +
+                        "<update id=\"updateByUsernameSelective\" parameterType=\"DemoDO\">\n" +
                         "    update demo set \n" +
                         "    <trim suffixOverrides=\",\">\n" +
-                        "        <if test=\"id != null\">id=#{id},</if>\n" +
-                        "        <if test=\"username != null\">username=#{username},</if>\n" +
                         "        <if test=\"userAddress != null\">user_address=#{userAddress},</if>\n" +
                         "    </trim>\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
                         "</update>\n" +
                         "</mapper>"
         );
@@ -365,7 +508,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, null, ret));
@@ -392,7 +535,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, null, ret));
@@ -423,7 +566,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -437,10 +580,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"findByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -457,7 +598,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -471,10 +612,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"findLockInShareModeByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "    lock in share mode\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -492,7 +631,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -506,10 +645,165 @@ public class MySqlTranslatorTest {
                         "<select id=\"findForUpdateByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
+                        "    for update\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindForUpdateByIdInSingleResult() {
+        String methodName = "findForUpdateByIdIn";
+
+        Param p1 = new Param("java.lang.Long", "id", "id", true, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", false, true, Arrays.asList(bf1, bf2, bf3));
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findForUpdateByIdIn\" parameterType=\"java.lang.Long\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"collection\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "    order by id\n" +
+                        "    limit 2\n" +
+                        "    for update\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testFindForUpdateByIdIn() {
+        String methodName = "findForUpdateByIdIn";
+
+        Param p1 = new Param("java.lang.Long", "id", "id", true, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"findForUpdateByIdIn\" parameterType=\"java.lang.Long\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"collection\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "    order by id\n" +
+                        "    for update\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testDeleteByOrderByWithLimit() {
+        String methodName = "deleteByCreatedAtBeforeOrderById";
+
+        Param p1 = new Param("java.util.Date", "createdAt", "created_at", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<delete id=\"deleteByCreatedAtBeforeOrderById\">\n" +
+                        "    delete from demo\n" +
+                        "    where created_at&lt;#{createdAt}\n" +
+                        "    order by id\n" +
+                        "    limit #{limit}\n" +
+                        "</delete>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testUpdateFieldsByWithLimit() {
+        String methodName = "updateUsernameByUserAddress";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
+        Param p3 = new Param("int", "limit", "limit", false, false, null, false);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3), null));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<update id=\"updateUsernameByUserAddress\">\n" +
+                        "    update demo set username=#{username}\n" +
+                        "    where user_address=#{userAddress}\n" +
+                        "    limit #{limit}\n" +
+                        "</update>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testPageForUpdate() {
+        String methodName = "pageForUpdateByUsernameOrderById";
+
+        Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+        BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageForUpdateByUsernameOrderById\" resultType=\"DemoDO\">\n" +
+                        "    select id, username, user_address as userAddress\n" +
+                        "    from demo\n" +
+                        "    where username=#{username}\n" +
+                        "    order by id\n" +
+                        "    limit #{limit}\n" +
                         "    for update\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -527,7 +821,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -541,10 +835,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"findByUsernameAndUserAddressOrderByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "    order by username, user_address\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -555,7 +847,7 @@ public class MySqlTranslatorTest {
     public void testCountAll() {
         String methodName = "countAll";
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, null, ret));
@@ -581,7 +873,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -595,10 +887,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameAndUserAddress\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -611,7 +901,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -625,10 +915,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameIsAndUserAddressEquals\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -641,7 +929,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -655,10 +943,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameLessThanAndUserAddressLessThanEquals\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username&lt;#{username}\n" +
-                        "        and user_address&lt;=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username&lt;#{username}\n" +
+                        "    and user_address&lt;=#{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -671,7 +957,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -685,10 +971,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameGreaterThanAndUserAddressGreaterThanEquals\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username&gt;#{username}\n" +
-                        "        and user_address&gt;=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username&gt;#{username}\n" +
+                        "    and user_address&gt;=#{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -701,7 +985,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -715,10 +999,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameAfterAndUserAddressBefore\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username&gt;#{username}\n" +
-                        "        and user_address&lt;#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username&gt;#{username}\n" +
+                        "    and user_address&lt;#{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -732,7 +1014,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -746,10 +1028,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameIsNullAndUserAddressIsNotNull\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username is null\n" +
-                        "        and user_address is not null\n" +
-                        "    </where>\n" +
+                        "    where username is null\n" +
+                        "    and user_address is not null\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -762,7 +1042,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -776,10 +1056,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameNotNullAndUserAddressLike\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username is not null\n" +
-                        "        and user_address like #{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username is not null\n" +
+                        "    and user_address like #{userAddress}\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -792,7 +1070,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -806,10 +1084,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameNotLikeAndUserAddressStartingWith\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username not like #{username}\n" +
-                        "        and user_address like concat(#{userAddress}, '%')\n" +
-                        "    </where>\n" +
+                        "    where username not like #{username}\n" +
+                        "    and user_address like concat(#{userAddress}, '%')\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -822,7 +1098,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -836,10 +1112,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameEndingWithAndUserAddressContaining\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username like concat('%', #{username})\n" +
-                        "        and user_address like concat('%', #{userAddress}, '%')\n" +
-                        "    </where>\n" +
+                        "    where username like concat('%', #{username})\n" +
+                        "    and user_address like concat('%', #{userAddress}, '%')\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -852,7 +1126,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -866,13 +1140,11 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameNotAndUserAddressIn\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username != #{username}\n" +
-                        "        and user_address in\n" +
-                        "        <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "            #{item}\n" +
-                        "        </foreach>\n" +
-                        "    </where>\n" +
+                        "    where username != #{username}\n" +
+                        "    and user_address in\n" +
+                        "    <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -885,7 +1157,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, false);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, false);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -899,16 +1171,14 @@ public class MySqlTranslatorTest {
                         "<select id=\"countByUsernameInAndUserAddressNotIn\" resultType=\"int\">\n" +
                         "    select count(*)\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username in\n" +
-                        "        <foreach close=\")\" collection=\"username\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "            #{item}\n" +
-                        "        </foreach>\n" +
-                        "        and user_address not in\n" +
-                        "        <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
-                        "            #{item}\n" +
-                        "        </foreach>\n" +
-                        "    </where>\n" +
+                        "    where username in\n" +
+                        "    <foreach close=\")\" collection=\"username\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "    and user_address not in\n" +
+                        "    <foreach close=\")\" collection=\"userAddress\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
                         "</select>\n" +
                         "</mapper>"
         );
@@ -921,7 +1191,7 @@ public class MySqlTranslatorTest {
         Param p1 = new Param("java.lang.String", "username", "username", false, false, null, true);
         Param p2 = new Param("java.lang.String", "userAddress", "user_address", false, false, null, true);
 
-        Return ret = new Return("int", false, null);
+        Return ret = new Return("int", false, false, null);
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -965,7 +1235,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -995,7 +1265,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1), ret));
@@ -1026,7 +1296,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
@@ -1060,7 +1330,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3, p4), ret));
@@ -1074,10 +1344,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"pageByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "    limit #{offset},#{limit}\n" +
                         "</select>\n" +
                         "</mapper>"
@@ -1097,7 +1365,7 @@ public class MySqlTranslatorTest {
         BeanField bf2 = new BeanField("username", "username", false, false);
         BeanField bf3 = new BeanField("userAddress", "user_address", false, false);
 
-        Return ret = new Return("DemoDO", true, Arrays.asList(bf1, bf2, bf3));
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2, bf3));
 
         MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
         translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2, p3, p4), ret));
@@ -1111,10 +1379,8 @@ public class MySqlTranslatorTest {
                         "<select id=\"pageByUsernameAndUserAddressOrderByUsernameAndUserAddress\" resultType=\"DemoDO\">\n" +
                         "    select id, username, user_address as userAddress\n" +
                         "    from demo\n" +
-                        "    <where>\n" +
-                        "        username=#{username}\n" +
-                        "        and user_address=#{userAddress}\n" +
-                        "    </where>\n" +
+                        "    where username=#{username}\n" +
+                        "    and user_address=#{userAddress}\n" +
                         "    order by username, user_address\n" +
                         "    limit #{offset},#{limit}\n" +
                         "</select>\n" +
@@ -1122,4 +1388,67 @@ public class MySqlTranslatorTest {
         );
     }
 
+    @Test
+    public void testFindStreaming() {
+        Param p1 = new Param("int", "isDeleted", "is_deleted", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2), null, true);
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo("findByIsDeleted", Arrays.asList(p1), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select fetchSize=\"-2147483648\" id=\"findByIsDeleted\" parameterType=\"int\" resultSetType=\"FORWARD_ONLY\" resultType=\"DemoDO\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    where is_deleted=#{isDeleted}\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
+    @Test
+    public void testPageForUpdateByIdIn() {
+        String methodName = "pageForUpdateByIdIn";
+
+        Param p1 = new Param("java.lang.Long", "id", "id", true, false, null, false);
+        Param p2 = new Param("int", "limit", "limit", false, false, null, false);
+
+        BeanField bf1 = new BeanField("id", "id", true, false);
+        BeanField bf2 = new BeanField("username", "username", false, false);
+
+        Return ret = new Return("DemoDO", true, true, Arrays.asList(bf1, bf2));
+
+        MySqlTranslator translator = new MySqlTranslator(new TranslateContext("demo", "demo", new LowerUnderScoreCaseConverter()));
+        translator.translate(new MethodInfo(methodName, Arrays.asList(p1, p2), ret));
+
+        assert DOMUtils.toString(translator.getDocument()).equals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+                        "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n" +
+                        "<mapper namespace=\"demo\">\n" +
+                        "\n" +
+                        "<!--auto mapper generate-->\n" +
+                        "<select id=\"pageForUpdateByIdIn\" resultType=\"DemoDO\">\n" +
+                        "    select id, username\n" +
+                        "    from demo\n" +
+                        "    where id in\n" +
+                        "    <foreach close=\")\" collection=\"id\" item=\"item\" open=\"(\" separator=\",\">\n" +
+                        "        #{item}\n" +
+                        "    </foreach>\n" +
+                        "    order by id\n" +
+                        "    limit #{limit}\n" +
+                        "    for update\n" +
+                        "</select>\n" +
+                        "</mapper>"
+        );
+    }
+
 }
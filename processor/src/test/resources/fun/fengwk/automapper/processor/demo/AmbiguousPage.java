@@ -0,0 +1,16 @@
+package fun.fengwk.automapper.processor.demo;
+
+import java.util.List;
+
+/**
+ * @author fengwk
+ */
+public class AmbiguousPage<T> {
+
+    private long total;
+
+    private List<T> items;
+
+    private List<T> records;
+
+}
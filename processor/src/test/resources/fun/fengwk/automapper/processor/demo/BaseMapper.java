@@ -1,5 +1,7 @@
 package fun.fengwk.automapper.processor.demo;
 
+import fun.fengwk.automapper.annotation.BatchSize;
+
 import java.util.List;
 
 /**
@@ -9,4 +11,10 @@ public interface BaseMapper<T> {
 
     List<T> pageAll(int limit);
 
+    @BatchSize(100)
+    int insertAll(List<T> records);
+
+    @BatchSize(100)
+    int updateAllById(List<T> records);
+
 }
@@ -0,0 +1,20 @@
+package fun.fengwk.automapper.processor.demo;
+
+import fun.fengwk.automapper.annotation.AutoMapper;
+import fun.fengwk.automapper.annotation.BatchSize;
+
+import java.util.List;
+
+/**
+ * @author fengwk
+ */
+@AutoMapper(tableName = "demo")
+public interface DemoBatchMapper {
+
+    @BatchSize(3)
+    int insertAll(List<DemoDO> records);
+
+    @BatchSize(3)
+    long updateAllById(Iterable<DemoDO> records);
+
+}
@@ -1,6 +1,9 @@
 package fun.fengwk.automapper.processor.demo;
 
 import fun.fengwk.automapper.annotation.AutoMapper;
+import fun.fengwk.automapper.annotation.IncludeField;
+
+import java.util.List;
 
 /**
  * @author fengwk
@@ -10,4 +13,7 @@ public interface DemoMapper extends BaseMapper<DemoDO> {
 
     DemoDO findByName(@org.apache.ibatis.annotations.Param("name") String name);
 
+    @IncludeField("id")
+    List<DemoDO> findByNameStartingWith(String name);
+
 }
@@ -0,0 +1,18 @@
+package fun.fengwk.automapper.processor.demo;
+
+import java.util.List;
+
+/**
+ * @author fengwk
+ */
+public class DemoPage<T> {
+
+    private int pageNum;
+
+    private int pageSize;
+
+    private long total;
+
+    private List<T> items;
+
+}
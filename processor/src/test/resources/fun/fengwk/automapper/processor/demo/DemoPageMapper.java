@@ -0,0 +1,15 @@
+package fun.fengwk.automapper.processor.demo;
+
+import fun.fengwk.automapper.annotation.AutoMapper;
+import fun.fengwk.automapper.annotation.DBType;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @author fengwk
+ */
+@AutoMapper(dbType = DBType.MYSQL8, tableName = "demo")
+public interface DemoPageMapper {
+
+    DemoPage<DemoDO> pageByName(@Param("name") String name, @Param("offset") int offset, @Param("limit") int limit);
+
+}
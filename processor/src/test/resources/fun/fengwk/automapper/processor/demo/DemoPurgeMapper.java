@@ -0,0 +1,18 @@
+package fun.fengwk.automapper.processor.demo;
+
+import fun.fengwk.automapper.annotation.AutoMapper;
+import fun.fengwk.automapper.annotation.BatchSize;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @author fengwk
+ */
+@AutoMapper(tableName = "demo")
+public interface DemoPurgeMapper {
+
+    @BatchSize(2)
+    int deleteByNameOrderById(@Param("name") String name, @Param("limit") int limit);
+
+    long deleteByIdOrderById(@Param("id") Long id, @Param("limit") long limit);
+
+}
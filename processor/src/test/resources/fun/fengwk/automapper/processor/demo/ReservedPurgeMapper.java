@@ -0,0 +1,16 @@
+package fun.fengwk.automapper.processor.demo;
+
+import fun.fengwk.automapper.annotation.AutoMapper;
+import fun.fengwk.automapper.annotation.BatchSize;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @author fengwk
+ */
+@AutoMapper(tableName = "demo")
+public interface ReservedPurgeMapper {
+
+    @BatchSize(2)
+    int deleteByNameOrderById(@Param("name") String chunk, @Param("limit") int limit);
+
+}